@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.3"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com"
@@ -27,11 +28,18 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
 
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
 
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     runtimeOnly("com.h2database:h2")
 
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
@@ -41,6 +49,33 @@ dependencies {
     annotationProcessor("org.projectlombok:lombok")
 }
 
+// ./gradlew jmh, 소스는 src/jmh/java (main 클래스와 런타임 의존성을 그대로 사용)
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+}
+
+// ./gradlew loadTest -Pscenario=threads, 소스는 src/loadTest/java (설정을 바꿔 띄운 애플리케이션끼리 처리량/p99 비교)
+// 결과는 src/loadTest/results/<시나리오>.md 에 쓰이고 함께 커밋한다.
+val loadTest by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "시나리오의 모드별로 애플리케이션을 띄워 엔드포인트별 처리량과 p99 를 기록한다."
+    classpath = loadTest.runtimeClasspath
+    mainClass = "com.back.loadTest.LoadTestRunner"
+    args(providers.gradleProperty("scenario").getOrElse("threads"), file("src/loadTest/results").path)
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
+    jvmArgs("-Djdk.tracePinnedThreads=short") // 고정되면 스택만 출력, 캐시 경로의 고정은 ApiV1PostControllerTest 가 JFR 로 검사해서 실패 처리
 }
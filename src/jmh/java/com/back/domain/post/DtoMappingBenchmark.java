@@ -0,0 +1,58 @@
+package com.back.domain.post;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.post.post.dto.PostDto;
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.postComment.dto.PostCommentDto;
+import com.back.domain.post.postComment.entity.PostComment;
+import com.back.global.jpa.entity.BaseEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 -> DTO 변환 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+    private Post post;
+    private PostComment postComment;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        Member author = new Member(1, "user1", "유저1");
+
+        post = new Post(author, "제목 1", "내용 1");
+        postComment = new PostComment(author, post, "댓글 1-1");
+
+        saved(post, 1);
+        saved(postComment, 1);
+    }
+
+    // 저장된 엔티티처럼 id 와 생성/수정일을 채운다.
+    static void saved(BaseEntity entity, int id) throws ReflectiveOperationException {
+        LocalDateTime now = LocalDateTime.now();
+
+        set(entity, "id", id);
+        set(entity, "createDate", now);
+        set(entity, "modifyDate", now);
+    }
+
+    private static void set(BaseEntity entity, String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = BaseEntity.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(entity, value);
+    }
+
+    @Benchmark
+    public PostDto postDto() {
+        return new PostDto(post);
+    }
+
+    @Benchmark
+    public PostCommentDto postCommentDto() {
+        return new PostCommentDto(postComment);
+    }
+}
@@ -0,0 +1,112 @@
+package com.back.domain.post;
+
+import com.back.domain.post.post.dto.PostDto;
+import com.back.domain.post.post.dto.PostDtoJsonSerializer;
+import com.back.domain.post.post.dto.PostPageDto;
+import com.back.domain.post.postComment.dto.PostCommentDto;
+import com.back.domain.post.postComment.dto.PostCommentDtoJsonSerializer;
+import com.back.domain.post.postComment.dto.PostCommentPageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+// 목록 응답 직렬화(리플렉션 vs 직접 작성한 직렬화기)와 gzip 비용, 응답 크기는 setup 에서 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListResponseBenchmark {
+    private ObjectMapper reflectiveObjectMapper;
+    private ObjectMapper objectMapper;
+    private PostPageDto postPage;
+    private PostCommentPageDto postCommentPage;
+    private byte[] postPageJson;
+
+    @Setup
+    public void setup() throws IOException {
+        // 스프링 부트 기본 ObjectMapper 와 같은 설정
+        reflectiveObjectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        // @JsonComponent 로 등록되는 것과 같은 직렬화기
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .addModule(new SimpleModule()
+                        .addSerializer(new PostDtoJsonSerializer())
+                        .addSerializer(new PostCommentDtoJsonSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 기본 페이지 크기 (custom.post.defaultPageSize, custom.postComment.defaultPageSize)
+        postPage = new PostPageDto(
+                IntStream.rangeClosed(1, 30)
+                        .mapToObj(i -> new PostDto(i, now, now, 1, "유저1", "제목 %d".formatted(i), "내용 %d 입니다. ".repeat(10).formatted(i), i * 10L, 0))
+                        .toList(),
+                "MzA"
+        );
+        postCommentPage = new PostCommentPageDto(
+                50,
+                IntStream.rangeClosed(1, 50)
+                        .mapToObj(i -> new PostCommentDto(i, now, now, 2, "유저2", 1, "댓글 %d".formatted(i), 0))
+                        .toList(),
+                null,
+                "NTA"
+        );
+
+        postPageJson = objectMapper.writeValueAsBytes(postPage);
+        byte[] postCommentPageJson = objectMapper.writeValueAsBytes(postCommentPage);
+
+        System.out.printf(
+                "%n글 목록 %d bytes -> gzip %d bytes, 댓글 목록 %d bytes -> gzip %d bytes%n",
+                postPageJson.length, gzip(postPageJson).length,
+                postCommentPageJson.length, gzip(postCommentPageJson).length
+        );
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        }
+
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] postPageReflective() throws IOException {
+        return reflectiveObjectMapper.writeValueAsBytes(postPage);
+    }
+
+    @Benchmark
+    public byte[] postPage() throws IOException {
+        return objectMapper.writeValueAsBytes(postPage);
+    }
+
+    @Benchmark
+    public byte[] postCommentPageReflective() throws IOException {
+        return reflectiveObjectMapper.writeValueAsBytes(postCommentPage);
+    }
+
+    @Benchmark
+    public byte[] postCommentPage() throws IOException {
+        return objectMapper.writeValueAsBytes(postCommentPage);
+    }
+
+    @Benchmark
+    public byte[] postPageGzip() throws IOException {
+        return gzip(postPageJson);
+    }
+}
@@ -0,0 +1,120 @@
+package com.back.domain.post.post.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+// 글 다건 작성(import) 의 INSERT 비용, 글 하나당 시간 (Hibernate 가 실행하는 것과 같은 JDBC 호출)
+// identity: 예전 방식, IDENTITY 라 글마다 INSERT 를 바로 실행하고 생성된 키를 받는다. (배치로 묶을 수 없음)
+// pooledSequence: 지금 방식, 시퀀스로 id 를 50개씩 받아 두고 INSERT 를 jdbc.batch_size(50) 단위로 묶는다.
+// 메모리 H2 라 DB 왕복 비용이 없으므로 네트워크 너머 DB 보다 차이가 작게 나온다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostInsertBenchmark {
+    private static final int POSTS_COUNT = 500; // custom.post.bulkWriteMaxSize
+    private static final int BATCH_SIZE = 50;
+    private static final int ALLOCATION_SIZE = 50;
+    private static final String COLUMNS = "author_id int, author_name varchar(255), title varchar(255), content varchar(5000), create_date timestamp, modify_date timestamp, version bigint";
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:postInsertBenchmark;MODE=MySQL", "sa", "");
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table post_identity (id int auto_increment primary key, %s)".formatted(COLUMNS));
+            statement.execute("create table post_sequence (id int primary key, %s)".formatted(COLUMNS));
+            statement.execute("create sequence post_seq start with 1 increment by %d".formatted(ALLOCATION_SIZE));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table post_identity");
+            statement.execute("truncate table post_sequence");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSTS_COUNT)
+    public long identity() throws SQLException {
+        long idsSum = 0;
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into post_identity (author_id, author_name, title, content, create_date, modify_date, version) values (?, ?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS
+        )) {
+            for (int i = 0; i < POSTS_COUNT; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    idsSum += keys.getInt(1);
+                }
+            }
+        }
+
+        connection.commit();
+        return idsSum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSTS_COUNT)
+    public long pooledSequence() throws SQLException {
+        long idsSum = 0;
+
+        try (PreparedStatement nextValue = connection.prepareStatement("select next value for post_seq");
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into post_sequence (author_id, author_name, title, content, create_date, modify_date, version, id) values (?, ?, ?, ?, ?, ?, ?, ?)"
+             )) {
+            int nextId = 0;
+            int endId = 0;
+
+            for (int i = 0; i < POSTS_COUNT; i++) {
+                if (nextId == endId) { // 받아 둔 id 를 다 쓰면 시퀀스를 한 번 더 호출
+                    try (ResultSet resultSet = nextValue.executeQuery()) {
+                        resultSet.next();
+                        nextId = resultSet.getInt(1);
+                        endId = nextId + ALLOCATION_SIZE;
+                    }
+                }
+
+                bind(insert, 1, i);
+                insert.setInt(8, nextId);
+                idsSum += nextId++;
+                insert.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0) insert.executeBatch();
+            }
+
+            insert.executeBatch();
+        }
+
+        connection.commit();
+        return idsSum;
+    }
+
+    private static void bind(PreparedStatement insert, int index, int i) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        insert.setInt(index, 1);
+        insert.setString(index + 1, "유저1");
+        insert.setString(index + 2, "제목 %d".formatted(i));
+        insert.setString(index + 3, "내용 %d".formatted(i));
+        insert.setTimestamp(index + 4, now);
+        insert.setTimestamp(index + 5, now);
+        insert.setLong(index + 6, 0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.back.domain.post.post.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 인기 글 순위 갱신 비용, 이벤트 1건 반영과 주기적 decay (점수가 있는 글 수에 비례)
+// GET /api/v1/posts/trending 은 만들어 둔 바이트 배열을 그대로 내려주므로 요청 경로에는 이 비용이 없다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrendingBenchmark {
+    private TrendingRanking ranking;
+    private long nowMillis;
+
+    @Param({"1000", "100000"})
+    public int postsCount;
+
+    @Setup
+    public void setup() {
+        nowMillis = System.currentTimeMillis();
+        ranking = new TrendingRanking(20, TimeUnit.HOURS.toMillis(6), nowMillis);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < postsCount * 10; i++) {
+            ranking.add(random.nextInt(postsCount) + 1, 1, nowMillis);
+        }
+    }
+
+    @Benchmark
+    public void add() {
+        ranking.add(ThreadLocalRandom.current().nextInt(postsCount) + 1, 1, nowMillis++);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Integer> decayAndTopPostIds() {
+        ranking.decay(nowMillis++);
+
+        return ranking.topPostIds();
+    }
+}
@@ -0,0 +1,45 @@
+package com.back.domain.post.post.service;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 글 단건조회마다 붙는 인기 글 이벤트 비용, 여러 스레드가 서로 다른 글 / 같은 글(인기 글 하나에 조회가 몰림)을 조회하는 경우
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrendingServiceBenchmark {
+    private TrendingService trendingService;
+
+    @Param({"1000"})
+    public int postsCount;
+
+    @Setup
+    public void setup() {
+        // 이벤트 경로는 DB 를 쓰지 않는다.
+        trendingService = new TrendingService(
+                null,
+                JsonMapper.builder()
+                        .findAndAddModules()
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .build(),
+                20,
+                TimeUnit.HOURS.toMinutes(6)
+        );
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void onViewedRandomPost() {
+        trendingService.onViewed(ThreadLocalRandom.current().nextInt(postsCount) + 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void onViewedSamePost() {
+        trendingService.onViewed(1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.back.global.rateLimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 허용되는 요청에 붙는 비용, 여러 스레드가 서로 다른 키 / 같은 키를 쓰는 경우
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterBenchmark {
+    private RateLimiter rateLimiter;
+    private String sharedApiKey;
+
+    @State(Scope.Thread)
+    public static class ThreadApiKey {
+        public String apiKey = UUID.randomUUID().toString();
+    }
+
+    @Setup
+    public void setup() {
+        // 1ms 마다 가득 차는 버킷, 거의 모든 요청이 허용되는 경로를 잰다.
+        rateLimiter = new RateLimiter(TokenBucket.MAX_CAPACITY, Integer.MAX_VALUE / 1000, 100_000, 600);
+        sharedApiKey = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean tryAcquirePerThreadKey(ThreadApiKey threadApiKey) {
+        return rateLimiter.tryAcquire(threadApiKey.apiKey);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean tryAcquireSharedKey() {
+        return rateLimiter.tryAcquire(sharedApiKey);
+    }
+}
@@ -0,0 +1,71 @@
+package com.back.global.rsData;
+
+import com.back.domain.post.post.dto.PostDto;
+import com.back.domain.post.postComment.dto.PostCommentDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 응답 객체 생성과 JSON 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RsDataBenchmark {
+    private static final MsgTemplate WRITE_MSG = MsgTemplate.of("%d번 글이 작성되었습니다.");
+
+    private ObjectMapper objectMapper;
+    private PostDto postDto;
+    private PostCommentDto postCommentDto;
+    private RsData<PostDto> rsData;
+
+    @Param({"201-1", "403-1"})
+    public String resultCode;
+
+    @Setup
+    public void setup() {
+        // 스프링 부트 기본 ObjectMapper 와 같은 설정 (JavaTimeModule, 날짜를 문자열로)
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        postDto = new PostDto(1, now, now, 1, "유저1", "제목 1", "내용 1", 0, 0);
+        postCommentDto = new PostCommentDto(1, now, now, 1, "유저1", 1, "댓글 1-1", 0);
+        rsData = new RsData<>("201-1", "1번 글이 작성되었습니다.", postDto);
+    }
+
+    @Benchmark
+    public RsData<PostDto> newRsData() {
+        return new RsData<>(resultCode, "1번 글이 작성되었습니다.", postDto);
+    }
+
+    @Benchmark
+    public String msgFormatted() {
+        return "%d번 글이 작성되었습니다.".formatted(postDto.id());
+    }
+
+    @Benchmark
+    public String msgTemplate() {
+        return WRITE_MSG.format(postDto.id());
+    }
+
+    @Benchmark
+    public byte[] serializePostDto() throws Exception {
+        return objectMapper.writeValueAsBytes(postDto);
+    }
+
+    @Benchmark
+    public byte[] serializePostCommentDto() throws Exception {
+        return objectMapper.writeValueAsBytes(postCommentDto);
+    }
+
+    @Benchmark
+    public byte[] serializeRsData() throws Exception {
+        return objectMapper.writeValueAsBytes(rsData);
+    }
+}
@@ -0,0 +1,112 @@
+package com.back.global.webMvc;
+
+import com.back.global.rsData.RsData;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpResponse;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// 이전 ResponseAspect(@Around 프록시) 와 RsDataResponseBodyAdvice 의 상태 코드 설정 비용 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseStatusBenchmark {
+    public static class Controller {
+        public RsData<Void> write() {
+            return new RsData<>("201-1", "1번 글이 작성되었습니다.");
+        }
+    }
+
+    // 삭제된 ResponseAspect 와 같은 방식
+    @Aspect
+    public static class StatusAspect {
+        private final StatusRecordingResponse response;
+
+        public StatusAspect(StatusRecordingResponse response) {
+            this.response = response;
+        }
+
+        @Around("execution(public com.back.global.rsData.RsData *(..))")
+        public Object handleResponse(ProceedingJoinPoint joinPoint) throws Throwable {
+            Object proceed = joinPoint.proceed();
+            response.setStatusCode(HttpStatusCode.valueOf(((RsData<?>) proceed).statusCode()));
+
+            return proceed;
+        }
+    }
+
+    // 상태 코드만 기록하는 응답
+    public static class StatusRecordingResponse implements ServerHttpResponse {
+        private final HttpHeaders headers = new HttpHeaders();
+        private HttpStatusCode statusCode;
+
+        @Override
+        public void setStatusCode(HttpStatusCode status) {
+            this.statusCode = status;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    private final StatusRecordingResponse response = new StatusRecordingResponse();
+    private Controller controller;
+    private Controller proxiedController;
+    private RsDataResponseBodyAdvice advice;
+    private MethodParameter returnType;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        controller = new Controller();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new Controller());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new StatusAspect(response));
+        proxiedController = proxyFactory.getProxy();
+
+        advice = new RsDataResponseBodyAdvice();
+        returnType = new MethodParameter(Controller.class.getMethod("write"), -1);
+    }
+
+    @Benchmark
+    public HttpStatusCode aspect() {
+        proxiedController.write();
+
+        return response.statusCode;
+    }
+
+    @Benchmark
+    public HttpStatusCode responseBodyAdvice() {
+        RsData<Void> rsData = controller.write();
+
+        if (advice.supports(returnType, MappingJackson2HttpMessageConverter.class))
+            advice.beforeBodyWrite(rsData, returnType, MediaType.APPLICATION_JSON, MappingJackson2HttpMessageConverter.class, null, response);
+
+        return response.statusCode;
+    }
+}
@@ -0,0 +1,106 @@
+package com.back.loadTest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 같은 데이터/같은 요청을 설정(Mode)만 바꿔서 띄운 애플리케이션에 보낸다.
+public record LoadScenario(
+        String name,
+        List<Mode> modes,
+        List<Endpoint> endpoints
+) {
+    // 애플리케이션을 띄울 때 덮어쓸 설정, 모드마다 별도 JVM 으로 띄운다.
+    public record Mode(String name, String profile, Map<String, String> properties) {
+    }
+
+    public record Endpoint(String name, RequestFactory requestFactory) {
+    }
+
+    @FunctionalInterface
+    public interface RequestFactory {
+        HttpRequest create(Target target);
+    }
+
+    // 띄운 애플리케이션의 주소와 미리 넣어 둔 데이터
+    public record Target(String baseUrl, String apiKey, int[] postIds) {
+        public HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path));
+        }
+
+        public int randomPostId() {
+            return postIds[ThreadLocalRandom.current().nextInt(postIds.length)];
+        }
+    }
+
+    public static LoadScenario of(String name) {
+        return switch (name) {
+            case "threads" -> threads();
+            case "prodTuning" -> prodTuning();
+            case "trending" -> trending();
+            default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + name);
+        };
+    }
+
+    // spring.threads.virtual.enabled 켜고 끈 것 비교, 로그가 결과를 가리지 않도록 prod 프로필로 띄운다.
+    private static LoadScenario threads() {
+        return new LoadScenario(
+                "threads",
+                List.of(
+                        new Mode("platform", "prod", Map.of("spring.threads.virtual.enabled", "false")),
+                        new Mode("virtual", "prod", Map.of("spring.threads.virtual.enabled", "true"))
+                ),
+                apiEndpoints()
+        );
+    }
+
+    // prod 프로필과, 측정 근거가 없어 뺀 풀/H2 설정을 다시 넣은 것 비교. 이기는 값만 application-prod.yml 에 넣는다.
+    private static LoadScenario prodTuning() {
+        return new LoadScenario(
+                "prodTuning",
+                List.of(
+                        new Mode("prod", "prod", Map.of()),
+                        new Mode("prod-tuned", "prod", Map.of(
+                                "spring.datasource.hikari.maximum-pool-size", "16",
+                                "spring.datasource.hikari.minimum-idle", "16",
+                                "spring.datasource.url", "jdbc:h2:mem:loadTest;MODE=MySQL;CACHE_SIZE=131072;QUERY_CACHE_SIZE=64",
+                                "spring.jpa.properties.hibernate.jdbc.batch_size", "100",
+                                "spring.jpa.properties.hibernate.query.plan_cache_max_size", "4096"
+                        ))
+                ),
+                apiEndpoints()
+        );
+    }
+
+    // 인기 글 응답과, 인기 글 이벤트가 붙는 단건 조회(글이 고르게 / 한 글에 몰리게), 반영(refresh)도 부하 중에 자주 돌도록 1초마다
+    private static LoadScenario trending() {
+        return new LoadScenario(
+                "trending",
+                List.of(
+                        new Mode("virtual", "prod", Map.of("custom.post.trending.refreshIntervalMillis", "1000"))
+                ),
+                List.of(
+                        new Endpoint("GET /api/v1/posts/trending", target -> target.request("/api/v1/posts/trending").GET().build()),
+                        new Endpoint("GET /api/v1/posts/{id}", target -> target.request("/api/v1/posts/" + target.randomPostId()).GET().build()),
+                        new Endpoint("GET /api/v1/posts/{id} (한 글에 몰림)", target -> target.request("/api/v1/posts/" + target.postIds()[0]).GET().build())
+                )
+        );
+    }
+
+    private static List<Endpoint> apiEndpoints() {
+        return List.of(
+                new Endpoint("GET /api/v1/posts", target -> target.request("/api/v1/posts").GET().build()),
+                new Endpoint("GET /api/v1/posts/{id}", target -> target.request("/api/v1/posts/" + target.randomPostId()).GET().build()),
+                new Endpoint("GET /api/v1/posts/{id}/comments", target -> target.request("/api/v1/posts/%d/comments".formatted(target.randomPostId())).GET().build()),
+                new Endpoint("GET /api/v1/posts/search", target -> target.request("/api/v1/posts/search?q=%EB%B6%80%ED%95%98").GET().build()), // q=부하
+                new Endpoint("POST /api/v1/posts/{id}/comments", target -> target
+                        .request("/api/v1/posts/%d/comments".formatted(target.randomPostId()))
+                        .header("Authorization", "Bearer " + target.apiKey())
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"content\": \"부하 댓글\"}"))
+                        .build())
+        );
+    }
+}
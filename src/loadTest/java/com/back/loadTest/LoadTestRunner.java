@@ -0,0 +1,236 @@
+package com.back.loadTest;
+
+import com.back.BackApplication;
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberService;
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.service.PostService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// ./gradlew loadTest -Pscenario=threads
+// 모드마다 애플리케이션을 별도 JVM 에서 띄우고 (JIT/캐시가 앞 모드의 영향을 받지 않도록) 엔드포인트별로 동시 요청을 보낸다.
+// 결과(처리량, p50/p99)는 src/loadTest/results/<시나리오>.md 에 쓰고 커밋한다.
+// 동시 요청 수와 시간은 -Dload.concurrency, -Dload.warmupSeconds, -Dload.durationSeconds 로 바꿀 수 있다.
+public class LoadTestRunner {
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 256);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmupSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.durationSeconds", 30);
+    private static final int POSTS_COUNT = 1000;
+    private static final int COMMENTS_PER_POST = 5;
+
+    record Result(String endpoint, long requests, long errors, double throughput, double p50Millis, double p99Millis) {
+        String toLine() {
+            return String.join("\t", endpoint, String.valueOf(requests), String.valueOf(errors), String.valueOf(throughput), String.valueOf(p50Millis), String.valueOf(p99Millis));
+        }
+
+        static Result fromLine(String line) {
+            String[] bits = line.split("\t");
+
+            return new Result(bits[0], Long.parseLong(bits[1]), Long.parseLong(bits[2]), Double.parseDouble(bits[3]), Double.parseDouble(bits[4]), Double.parseDouble(bits[5]));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadScenario scenario = LoadScenario.of(args[0]);
+
+        if (args.length == 4) { // 자식 JVM: 모드 하나를 띄워서 측정하고 결과 파일에 쓴다.
+            LoadScenario.Mode mode = scenario.modes().stream().filter(it -> it.name().equals(args[2])).findFirst().orElseThrow();
+            Files.write(Path.of(args[3]), runMode(scenario, mode).stream().map(Result::toLine).toList());
+            System.exit(0); // 스케줄러 등 남은 스레드를 기다리지 않는다.
+        }
+
+        Path resultsDir = Path.of(args[1]);
+        Files.createDirectories(resultsDir);
+
+        Map<String, List<Result>> resultsByMode = new LinkedHashMap<>();
+        for (LoadScenario.Mode mode : scenario.modes()) {
+            resultsByMode.put(mode.name(), forkMode(scenario, mode));
+        }
+
+        String report = report(scenario, resultsByMode);
+        Files.writeString(resultsDir.resolve(scenario.name() + ".md"), report);
+        System.out.println(report);
+    }
+
+    private static List<Result> forkMode(LoadScenario scenario, LoadScenario.Mode mode) throws IOException, InterruptedException {
+        Path resultFile = Files.createTempFile("loadTest-" + mode.name(), ".tsv");
+
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments()); // -D 옵션, 힙 크기 등을 그대로
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), LoadTestRunner.class.getName()));
+        command.addAll(List.of(scenario.name(), "-", mode.name(), resultFile.toString()));
+
+        Process process = new ProcessBuilder(command).inheritIO().start();
+        if (process.waitFor() != 0)
+            throw new IllegalStateException("%s 모드 실행 실패 (exit %d)".formatted(mode.name(), process.exitValue()));
+
+        try {
+            return Files.readAllLines(resultFile).stream().map(Result::fromLine).toList();
+        } finally {
+            Files.deleteIfExists(resultFile);
+        }
+    }
+
+    private static List<Result> runMode(LoadScenario scenario, LoadScenario.Mode mode) throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadTest;MODE=MySQL");
+        properties.put("spring.output.ansi.enabled", "never");
+        // 쓰기 요청이 429 로 끝나면 처리 비용이 아니라 제한을 재게 된다.
+        properties.put("custom.rateLimit.post.capacity", String.valueOf(Integer.MAX_VALUE));
+        properties.put("custom.rateLimit.postComment.capacity", String.valueOf(Integer.MAX_VALUE));
+        properties.putAll(mode.properties());
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackApplication.class)
+                .profiles(mode.profile())
+                .properties(properties)
+                .run()) {
+            LoadScenario.Target target = seed(context);
+
+            List<Result> results = new ArrayList<>();
+            for (LoadScenario.Endpoint endpoint : scenario.endpoints()) {
+                drive(target, endpoint, Duration.ofSeconds(WARMUP_SECONDS));
+                results.add(drive(target, endpoint, Duration.ofSeconds(DURATION_SECONDS)));
+            }
+
+            return results;
+        }
+    }
+
+    private static LoadScenario.Target seed(ConfigurableApplicationContext context) {
+        MemberService memberService = context.getBean(MemberService.class);
+        PostService postService = context.getBean(PostService.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        List<Integer> postIds = new ArrayList<>();
+        for (int i = 0; i < POSTS_COUNT; i += 100) {
+            int from = i;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                Member author = memberService.findByUsername("user%d".formatted(from / 100 % 3 + 1)).get();
+
+                for (int j = from; j < from + 100; j++) {
+                    Post post = postService.write(author, "부하 %d".formatted(j), "부하 테스트 내용 %d ".formatted(j).repeat(10));
+                    for (int k = 0; k < COMMENTS_PER_POST; k++) postService.writeComment(author, post, "댓글 %d-%d".formatted(j, k));
+                    postIds.add(post.getId());
+                }
+            });
+        }
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String apiKey = memberService.findByUsername("user1").get().getApiKey();
+
+        return new LoadScenario.Target("http://localhost:" + port, apiKey, postIds.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    // 닫힌 루프: CONCURRENCY 개의 클라이언트가 응답을 받으면 바로 다음 요청을 보낸다.
+    private static Result drive(LoadScenario.Target target, LoadScenario.Endpoint endpoint, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build()) {
+            List<Future<long[]>> clients = new ArrayList<>();
+
+            for (int i = 0; i < CONCURRENCY; i++) {
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    long errors = 0;
+
+                    while (System.nanoTime() < deadline) {
+                        long startedAt = System.nanoTime();
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = httpClient.send(endpoint.requestFactory().create(target), HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() < 400;
+                        } catch (IOException e) {
+                            ok = false;
+                        }
+
+                        if (!ok) {
+                            errors++;
+                            continue;
+                        }
+
+                        if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+                        latencies[count++] = System.nanoTime() - startedAt;
+                    }
+
+                    long[] result = Arrays.copyOf(latencies, count + 1);
+                    result[count] = errors; // 마지막 칸은 실패 수
+                    return result;
+                }));
+            }
+
+            long[] all = new long[0];
+            long errors = 0;
+            for (Future<long[]> client : clients) {
+                long[] result = client.get();
+                int count = result.length - 1;
+
+                errors += result[count];
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + count);
+                System.arraycopy(result, 0, all, offset, count);
+            }
+            Arrays.sort(all);
+
+            return new Result(
+                    endpoint.name(),
+                    all.length,
+                    errors,
+                    all.length / (double) duration.toSeconds(),
+                    percentileMillis(all, 0.50),
+                    percentileMillis(all, 0.99)
+            );
+        }
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) return 0;
+
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static String report(LoadScenario scenario, Map<String, List<Result>> resultsByMode) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# %s\n\n".formatted(scenario.name()));
+        sb.append("- 실행: %s, Java %s, CPU %d개\n".formatted(LocalDateTime.now().withNano(0), Runtime.version(), Runtime.getRuntime().availableProcessors()));
+        sb.append("- 동시 요청 %d, 예열 %d초, 측정 %d초, 글 %d건 (글마다 댓글 %d건)\n".formatted(CONCURRENCY, WARMUP_SECONDS, DURATION_SECONDS, POSTS_COUNT, COMMENTS_PER_POST));
+        for (LoadScenario.Mode mode : scenario.modes()) {
+            sb.append("- %s: 프로필 %s, %s\n".formatted(mode.name(), mode.profile(), new TreeMap<>(mode.properties())));
+        }
+
+        sb.append("\n| 엔드포인트 | 모드 | 처리량 (req/s) | p50 (ms) | p99 (ms) | 실패 |\n");
+        sb.append("|---|---|---:|---:|---:|---:|\n");
+        for (LoadScenario.Endpoint endpoint : scenario.endpoints()) {
+            resultsByMode.forEach((modeName, results) -> results
+                    .stream()
+                    .filter(result -> result.endpoint().equals(endpoint.name()))
+                    .forEach(result -> sb.append("| %s | %s | %.0f | %.2f | %.2f | %d |\n".formatted(
+                            result.endpoint(), modeName, result.throughput(), result.p50Millis(), result.p99Millis(), result.errors()
+                    ))));
+        }
+
+        return sb.toString();
+    }
+}
@@ -4,6 +4,7 @@ import com.back.domain.member.member.dto.MemberDto;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.service.MemberService;
 import com.back.global.exception.ServiceException;
+import com.back.global.rsData.MsgTemplate;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -20,6 +21,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @Tag(name = "ApiV1MemberController", description = "API 회원 컨트롤러")
 public class ApiV1MemberController {
+    private static final MsgTemplate JOIN_MSG = MsgTemplate.of("%s님 환영합니다. 회원가입이 완료되었습니다.");
+    private static final MsgTemplate LOGIN_MSG = MsgTemplate.of("%s님 환영합니다.");
+
     private final MemberService memberService; // 회원 비즈니스 로직 사용
 
     // 회원가입 요청 바디 정의
@@ -49,7 +53,7 @@ public class ApiV1MemberController {
 
         return new RsData<>( //응답은 RsData라는 공통 응답 포맷을 사용
                 "201-1",
-                "%s님 환영합니다. 회원가입이 완료되었습니다.".formatted(member.getName()),
+                JOIN_MSG.format(member.getName()),
                 new MemberDto(member) // 응답 바디에 작성자 이름, 생성일 등 포함
         );
     }
@@ -88,7 +92,7 @@ public class ApiV1MemberController {
         // 로그인 성공 시 API 키 반환
         return new RsData<>(
                 "200-1",
-                "%s님 환영합니다.".formatted(member.getName()),
+                LOGIN_MSG.format(member.getName()),
                 new MemberLoginResBody(
                         new MemberDto(member),
                         member.getApiKey()
@@ -0,0 +1,8 @@
+package com.back.domain.member.member.dto;
+
+// 글/댓글에 저장해 두는 작성자 이름을 채우거나 맞출 때 사용
+public record MemberNameDto(
+        int id,
+        String name
+) {
+}
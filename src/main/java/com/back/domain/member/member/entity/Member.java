@@ -1,16 +1,22 @@
 package com.back.domain.member.member.entity;
 
 import com.back.global.jpa.entity.BaseEntity;
+import com.back.global.jpaCache.JpaCacheConfig;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID; // UUID를 사용하여 API 키를 생성하기 위해 import합니다.
 
 @Entity
 @Getter
 @NoArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = JpaCacheConfig.MEMBER_REGION) // 거의 바뀌지 않고 글/댓글 작성자로 자주 로딩된다.
 public class Member extends BaseEntity {
     @Column(unique = true) // 사용자 이름은 유일해야 합니다.
     private String username;
@@ -26,6 +32,25 @@ public class Member extends BaseEntity {
         this.apiKey = UUID.randomUUID().toString(); // API 키는 UUID를 사용하여 생성합니다.
     }
 
+    // 캐시된 인증 정보로 만드는 회원, 비밀번호와 API 키는 담지 않는다.
+    public Member(int id, String username, String nickname) {
+        setId(id);
+        this.username = username;
+        this.nickname = nickname;
+    }
+
+    public void modifyNickname(String nickname) {
+        this.nickname = nickname;
+    }
+
+    public void rotateApiKey() {
+        this.apiKey = UUID.randomUUID().toString();
+    }
+
+    public boolean isAdmin() {
+        return "system".equals(username) || "admin".equals(username);
+    }
+
     public String getName() {
         return nickname;
     }
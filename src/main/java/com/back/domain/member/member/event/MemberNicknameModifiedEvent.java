@@ -0,0 +1,8 @@
+package com.back.domain.member.member.event;
+
+// 작성자 이름을 들고 있는 글/댓글 쪽 캐시 등이 구독
+public record MemberNicknameModifiedEvent(
+        int memberId,
+        String nickname
+) {
+}
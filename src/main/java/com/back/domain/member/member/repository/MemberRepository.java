@@ -1,12 +1,33 @@
 package com.back.domain.member.member.repository;
 
+import com.back.domain.member.member.dto.MemberNameDto;
 import com.back.domain.member.member.entity.Member;
+import com.back.global.jpaCache.JpaCacheConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Integer> {
+    // 쿼리 캐시에는 결과 id 만 들어가고 회원은 2차 캐시(member)에서 가져온다. 회원 테이블이 바뀌면 자동으로 무효화
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaCacheConfig.MEMBER_QUERY_REGION)
+    })
     Optional<Member> findByUsername(String username); // 사용자 이름으로 회원 조회
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaCacheConfig.MEMBER_QUERY_REGION)
+    })
     Optional<Member> findByApiKey(String apiKey); // API 키로 회원 조회
+
+    @Query("select new com.back.domain.member.member.dto.MemberNameDto(m.id, m.nickname) from Member m where m.id in :ids")
+    List<MemberNameDto> findNamesByIdIn(@Param("ids") Collection<Integer> ids); // 존재하는 회원의 현재 이름만
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.back.domain.member.member.service;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.global.cache.InvalidationStamps;
+import com.back.global.transaction.TransactionHooks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+// API 키 -> 인증된 회원 스냅샷 캐시, 요청마다 회원 테이블을 조회하지 않기 위해 사용
+@Component
+public class MemberActorCache {
+    private final Cache<String, ActorSnapshot> cache;
+    private final InvalidationStamps invalidationStamps = new InvalidationStamps();
+
+    public MemberActorCache(
+            @Value("${custom.member.actorCache.maxSize}") long maxSize,
+            @Value("${custom.member.actorCache.ttlSeconds}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{cache="memberActor", result="hit|miss"}, cache.size 등으로 /actuator/prometheus 에 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "memberActor");
+    }
+
+    // 엔티티를 그대로 공유하지 않도록 불변 스냅샷만 캐시하고, 꺼낼 때마다 새 Member 를 만든다.
+    private record ActorSnapshot(int id, String username, String nickname) {
+        ActorSnapshot(Member member) {
+            this(member.getId(), member.getUsername(), member.getNickname());
+        }
+
+        Member toMember() {
+            return new Member(id, username, nickname);
+        }
+    }
+
+    // DB 를 조회하지 않고 캐시에 있는 회원만 돌려준다.
+    public Optional<Member> getIfPresent(String apiKey) {
+        return Optional.ofNullable(cache.getIfPresent(apiKey)).map(ActorSnapshot::toMember);
+    }
+
+    public Optional<Member> get(String apiKey, Function<String, Optional<Member>> loader) {
+        ActorSnapshot cached = cache.getIfPresent(apiKey);
+        if (cached != null) return Optional.of(cached.toMember());
+
+        // cache.get(key, loader) 는 ConcurrentHashMap 의 synchronized 구간 안에서 로더(DB 조회)를 실행해
+        // 가상 스레드를 캐리어 스레드에 고정(pinning)시키므로, 조회는 락 밖에서 하고 결과만 넣는다.
+        // 잘못된 키는 캐시하지 않는다.
+        long stamp = invalidationStamps.stamp(apiKey);
+        Optional<ActorSnapshot> snapshot = loader.apply(apiKey).map(ActorSnapshot::new);
+        snapshot.ifPresent(value -> {
+            cache.put(apiKey, value);
+            // 조회하는 동안 키 재발급/탈퇴가 커밋되어 무효화되었다면 이전 값일 수 있으므로 되돌린다.
+            if (invalidationStamps.stamp(apiKey) != stamp) cache.invalidate(apiKey);
+        });
+
+        return snapshot.map(ActorSnapshot::toMember);
+    }
+
+    public void evict(String apiKey) {
+        invalidate(apiKey);
+        // 트랜잭션이 끝나기 전에 다른 요청이 이전 값을 다시 적재했을 수 있으므로 끝난 뒤 한 번 더 제거
+        TransactionHooks.afterCompletion(() -> invalidate(apiKey));
+    }
+
+    private void invalidate(String apiKey) {
+        invalidationStamps.invalidate(apiKey); // 진행 중인 적재가 put 하더라도 남지 않도록 먼저 올린다.
+        cache.invalidate(apiKey);
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
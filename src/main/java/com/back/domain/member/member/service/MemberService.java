@@ -1,9 +1,11 @@
 package com.back.domain.member.member.service;
 
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.event.MemberNicknameModifiedEvent;
 import com.back.domain.member.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import com.back.global.exception.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -13,6 +15,8 @@ import java.util.Optional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberActorCache memberActorCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public long count() {
         return memberRepository.count();
@@ -35,4 +39,40 @@ public class MemberService {
     public  Optional<Member> findByApiKey(String apiKey) { // API 키로 회원 조회
         return memberRepository.findByApiKey(apiKey);
     }
+
+    public Optional<Member> findActorByApiKey(String apiKey) { // 인증용 조회, 캐시를 먼저 확인
+        return memberActorCache.get(apiKey, memberRepository::findByApiKey);
+    }
+
+    public Optional<Member> findCachedActorByApiKey(String apiKey) { // 인증용 조회, 캐시에 있을 때만
+        return memberActorCache.getIfPresent(apiKey);
+    }
+
+    public void modifyNickname(Member member, String nickname) { // 닉네임 변경, 이름을 들고 있는 캐시들에 알림
+        Member managedMember = reload(member);
+        managedMember.modifyNickname(nickname);
+        memberActorCache.evict(managedMember.getApiKey());
+        eventPublisher.publishEvent(new MemberNicknameModifiedEvent(managedMember.getId(), nickname));
+    }
+
+    public void rotateApiKey(Member member) { // API 키 재발급, 기존 키는 캐시에서 제거
+        Member managedMember = reload(member);
+        String oldApiKey = managedMember.getApiKey();
+        managedMember.rotateApiKey();
+        memberActorCache.evict(oldApiKey);
+    }
+
+    public void delete(Member member) { // 회원 삭제, 캐시된 인증 정보도 함께 제거
+        Member managedMember = reload(member);
+        memberRepository.delete(managedMember);
+        memberActorCache.evict(managedMember.getApiKey());
+    }
+
+    // rq.getActor() 의 회원은 인증 캐시에서 만든 스냅샷이라 API 키가 없고 고쳐도 저장되지 않는다.
+    // id 로 다시 읽어서 고친다. (이미 영속 상태면 같은 객체가 나오고 조회도 하지 않는다.)
+    private Member reload(Member member) {
+        return memberRepository
+                .findById(member.getId())
+                .orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 회원입니다."));
+    }
 }
\ No newline at end of file
@@ -2,22 +2,44 @@ package com.back.domain.post.post.controller;
 
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.post.post.dto.PostDto;
+import com.back.domain.post.post.dto.PostPageDto;
+import com.back.domain.post.post.dto.PostSearchPageDto;
+import com.back.domain.post.post.dto.PostTrendingDto;
 import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.service.PostDetailCache;
 import com.back.domain.post.post.service.PostService;
 import com.back.global.exception.ServiceException;
 import com.back.global.rq.Rq;
+import com.back.global.rsData.MsgTemplate;
 import com.back.global.rsData.RsData;
+import com.back.global.webMvc.ETags;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
 
 @RestController
 @Validated // 유효성 검사 활성화
@@ -25,28 +47,75 @@ import java.util.List;
 @RequiredArgsConstructor
 @Tag(name = "ApiV1PostController", description = "API 글 컨트롤러")
 public class ApiV1PostController {
+    private static final MsgTemplate DELETE_MSG = MsgTemplate.of("%d번 글이 삭제되었습니다.");
+    private static final MsgTemplate WRITE_MSG = MsgTemplate.of("%d번 글이 작성되었습니다.");
+    private static final MsgTemplate MODIFY_MSG = MsgTemplate.of("%d번 글이 수정되었습니다.");
+    private static final MsgTemplate BULK_WRITE_MSG = MsgTemplate.of("%d건 중 %d건의 글이 작성되었습니다.");
+
     private final PostService postService;
     private final Rq rq;
+    private final Validator validator;
+
+    @Value("${custom.post.bulkWriteMaxSize}")
+    private int bulkWriteMaxSize;
 
     @GetMapping
     @Transactional(readOnly = true)
     @Operation(summary = "다건 조회")
-    public List<PostDto> getItems() {
-        List<Post> items = postService.findAll();
+    public PostPageDto getItems(
+            @RequestParam(required = false) String cursor, // 이전 응답의 nextCursor, 없으면 첫 페이지
+            @RequestParam(defaultValue = "${custom.post.defaultPageSize}") int pageSize,
+            WebRequest request
+    ) {
+        // If-None-Match 가 같으면 304, null 을 반환하면 바디 없이 응답된다.
+        if (request.checkNotModified(postService.findPageEtag(cursor, pageSize))) return null;
 
-        return items
-                .stream()
-                .map(PostDto::new) // PostDto로 변환
-                .toList();
+        return postService.findPage(cursor, pageSize);
     }
 
-    @GetMapping("/{id}")
+    @GetMapping("/trending")
+    @Operation(
+            summary = "인기 글",
+            description = "최근 작성/댓글/조회가 많은 글, 주기적으로 다시 계산된다.",
+            responses = @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = PostTrendingDto.class)))
+    )
+    public ResponseEntity<byte[]> getTrendingItems() {
+        return ResponseEntity
+                .ok()
+                .contentType(APPLICATION_JSON)
+                .body(postService.findTrendingJson());
+    }
+
+    @GetMapping("/search")
     @Transactional(readOnly = true)
-    @Operation(summary = "단건 조회")
-    public PostDto getItem(@PathVariable int id) {
-        Post post = postService.findById(id).get();
+    @Operation(summary = "검색", description = "제목/내용에 검색어가 모두 들어간 글을 관련도 순으로 조회")
+    public PostSearchPageDto search(
+            @RequestParam @NotBlank @Size(max = 100) String q,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "${custom.post.defaultPageSize}") int pageSize
+    ) {
+        return postService.search(q, page, pageSize);
+    }
 
-        return new PostDto(post);
+    // 캐시에 직렬화된 JSON 을 그대로 내려준다. 캐시 적중 시 트랜잭션도 열지 않도록 @Transactional 없음
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "단건 조회",
+            responses = @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = PostDto.class)))
+    )
+    public ResponseEntity<byte[]> getItem(@PathVariable int id, WebRequest request) {
+        PostDetailCache.Entry detail = postService.findDetail(id); // 없는 글이면 여기서 404
+
+        // If-None-Match 가 같으면 304, 이미 가진 응답을 다시 확인하는 요청(폴링)이므로 조회수에 넣지 않는다.
+        // 200 일 때도 ETag 헤더는 checkNotModified 가 붙인다.
+        if (request.checkNotModified(detail.etag())) return null;
+
+        postService.increaseViewsCount(id);
+
+        return ResponseEntity
+                .ok()
+                .contentType(APPLICATION_JSON)
+                .body(detail.json());
     }
 
     @DeleteMapping("/{id}")
@@ -65,7 +134,7 @@ public class ApiV1PostController {
 
         return new RsData<>(
                 "200-1",
-                "%d번 글이 삭제되었습니다.".formatted(id)
+                DELETE_MSG.format(id)
         );
     }
 
@@ -92,11 +161,88 @@ public class ApiV1PostController {
 
         return new RsData<>( // 응답 데이터 생성
                 "201-1",
-                "%d번 글이 작성되었습니다.".formatted(post.getId()),
+                WRITE_MSG.format(post.getId()),
                 new PostDto(post) // 응답 바디에 작성자 이름, 생성일 등 포함
         );
     }
 
+    record PostBulkWriteReqBody(
+            @NotEmpty
+            List<PostWriteReqBody> items // 항목별 검사는 결과를 항목마다 돌려주기 위해 직접 수행
+    ) {
+    }
+
+    record PostBulkWriteItemResBody(
+            int index,
+            String resultCode,
+            String msg,
+            Integer id // 실패한 항목은 null
+    ) {
+    }
+
+    @PostMapping("/bulk")
+    @Transactional
+    @Operation(summary = "다건 작성", description = "항목별로 유효성 검사 후 통과한 글만 한 번에 저장")
+    public RsData<List<PostBulkWriteItemResBody>> writeAll(
+            @Valid @RequestBody PostBulkWriteReqBody reqBody
+    ) {
+        if (reqBody.items.size() > bulkWriteMaxSize)
+            throw new ServiceException("400-1", "items-Size-한 번에 %d건까지 작성할 수 있습니다.".formatted(bulkWriteMaxSize));
+
+        Member actor = rq.getActor();
+
+        List<String> errorMsgs = reqBody.items
+                .stream()
+                .map(this::validateItem)
+                .toList();
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < reqBody.items.size(); i++) {
+            PostWriteReqBody item = reqBody.items.get(i);
+            if (errorMsgs.get(i) == null) posts.add(new Post(actor, item.title, item.content));
+        }
+
+        Iterator<Post> writtenPosts = postService.writeAll(posts).iterator();
+
+        List<PostBulkWriteItemResBody> results = new ArrayList<>(reqBody.items.size());
+        for (int i = 0; i < reqBody.items.size(); i++) {
+            if (errorMsgs.get(i) != null) {
+                results.add(new PostBulkWriteItemResBody(i, "400-1", errorMsgs.get(i), null));
+                continue;
+            }
+
+            Post post = writtenPosts.next();
+            results.add(new PostBulkWriteItemResBody(i, "201-1", WRITE_MSG.format(post.getId()), post.getId()));
+        }
+
+        if (posts.isEmpty())
+            return new RsData<>("400-1", "작성된 글이 없습니다.", results);
+
+        return new RsData<>(
+                "201-1",
+                BULK_WRITE_MSG.format(reqBody.items.size(), posts.size()),
+                results
+        );
+    }
+
+    // 단건 작성과 같은 규칙(PostWriteReqBody), 메시지 형식은 GlobalExceptionHandler 와 동일
+    private String validateItem(PostWriteReqBody item) {
+        if (item == null) return "item-NotNull-must not be null";
+
+        Set<ConstraintViolation<PostWriteReqBody>> violations = validator.validate(item);
+        if (violations.isEmpty()) return null;
+
+        return violations
+                .stream()
+                .map(violation -> "%s-%s-%s".formatted(
+                        violation.getPropertyPath(),
+                        violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName(),
+                        violation.getMessage()
+                ))
+                .sorted()
+                .collect(Collectors.joining("\n"));
+    }
+
     record PostModifyReqBody(
             @NotBlank
             @Size(min = 2, max = 100)
@@ -109,9 +255,10 @@ public class ApiV1PostController {
 
     @PutMapping("/{id}")
     @Transactional
-    @Operation(summary = "수정")
+    @Operation(summary = "수정", description = "If-Match 로 단건 조회의 ETag 를 보내면 그 사이에 수정된 글은 412 로 거절된다.")
     public RsData<Void> modify(
             @PathVariable int id,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody PostModifyReqBody reqBody
     ){
         Member actor = rq.getActor(); // 현재 로그인한 사용자 정보 가져오기
@@ -121,11 +268,15 @@ public class ApiV1PostController {
             throw new ServiceException("403-1", "권한이 없습니다.");
         }
 
+        // If-Match 가 맞아도 커밋 전에 다른 요청이 먼저 수정하면 @Version 검사에서 409 (GlobalExceptionHandler)
+        if (!ETags.matchesVersion(ifMatch, post.getVersion()))
+            throw new ServiceException("412-1", "글이 다른 곳에서 수정되었습니다. 다시 조회한 뒤 수정해주세요.");
+
         postService.modify(post, reqBody.title, reqBody.content);
 
         return new RsData<>(
                 "200-1",
-                "%d번 글이 수정되었습니다.".formatted(post.getId())
+                MODIFY_MSG.format(post.getId())
         );
     }
 }
\ No newline at end of file
@@ -11,17 +11,21 @@ public record PostDto(
         int authorId,
         String authorName,
         String title,
-        String content
+        String content,
+        long viewsCount, // PostViewCounter 가 주기적으로 반영한 값이라 최근 조회는 조금 늦게 보인다.
+        long version // 수정할 때마다 1씩 증가 (조회수/댓글 수는 제외)
 ) {
     public PostDto(Post post) {
         this(
                 post.getId(),
                 post.getCreateDate(),
                 post.getModifyDate(),
-                post.getAuthor().getId(),
-                post.getAuthor().getName(),
+                post.getAuthorId(),
+                post.getAuthorName(),
                 post.getTitle(),
-                post.getContent()
+                post.getContent(),
+                post.getViewsCount(),
+                post.getVersion()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.back.domain.post.post.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+// 목록 응답에서 가장 많이 직렬화되는 DTO, 리플렉션 기반 BeanSerializer 대신 필드를 순서대로 바로 쓴다.
+// 필드 이름은 미리 인코딩해 두고, 날짜는 스프링의 ObjectMapper 설정을 따르도록 기본 직렬화기에 맡긴다.
+// 필드를 추가하면 여기에도 추가해야 한다.
+@JsonComponent
+public class PostDtoJsonSerializer extends JsonSerializer<PostDto> {
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString CREATE_DATE = new SerializedString("createDate");
+    private static final SerializableString MODIFY_DATE = new SerializedString("modifyDate");
+    private static final SerializableString AUTHOR_ID = new SerializedString("authorId");
+    private static final SerializableString AUTHOR_NAME = new SerializedString("authorName");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString VIEWS_COUNT = new SerializedString("viewsCount");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    @Override
+    public void serialize(PostDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        gen.writeNumber(value.id());
+        gen.writeFieldName(CREATE_DATE);
+        serializers.defaultSerializeValue(value.createDate(), gen);
+        gen.writeFieldName(MODIFY_DATE);
+        serializers.defaultSerializeValue(value.modifyDate(), gen);
+        gen.writeFieldName(AUTHOR_ID);
+        gen.writeNumber(value.authorId());
+        gen.writeFieldName(AUTHOR_NAME);
+        gen.writeString(value.authorName());
+        gen.writeFieldName(TITLE);
+        gen.writeString(value.title());
+        gen.writeFieldName(CONTENT);
+        gen.writeString(value.content());
+        gen.writeFieldName(VIEWS_COUNT);
+        gen.writeNumber(value.viewsCount());
+        gen.writeFieldName(VERSION);
+        gen.writeNumber(value.version());
+        gen.writeEndObject();
+    }
+
+    @Override
+    public Class<PostDto> handledType() {
+        return PostDto.class;
+    }
+}
@@ -0,0 +1,9 @@
+package com.back.domain.post.post.dto;
+
+import java.util.List;
+
+public record PostPageDto(
+        List<PostDto> items,
+        String nextCursor // 다음 페이지가 없으면 null
+) {
+}
@@ -0,0 +1,9 @@
+package com.back.domain.post.post.dto;
+
+// 검색 색인에 필요한 컬럼만
+public record PostSearchDocDto(
+        int id,
+        String title,
+        String content
+) {
+}
@@ -0,0 +1,12 @@
+package com.back.domain.post.post.dto;
+
+import java.util.List;
+
+public record PostSearchPageDto(
+        String q,
+        int page, // 1부터 시작
+        int pageSize,
+        int totalCount,
+        List<PostDto> items // 점수 높은 순
+) {
+}
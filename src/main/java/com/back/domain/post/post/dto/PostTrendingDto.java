@@ -0,0 +1,10 @@
+package com.back.domain.post.post.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PostTrendingDto(
+        List<PostDto> items, // 점수 높은 순
+        LocalDateTime refreshDate // 순위를 마지막으로 다시 계산한 시각
+) {
+}
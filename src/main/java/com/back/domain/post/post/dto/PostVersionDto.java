@@ -0,0 +1,12 @@
+package com.back.domain.post.post.dto;
+
+import java.time.LocalDateTime;
+
+// 목록 응답(PostDto)을 바꾸는 값만 모은 것, 조건부 조회(ETag)에 사용
+public record PostVersionDto(
+        int id,
+        LocalDateTime modifyDate,
+        String authorName, // AuthorNameSync 가 반영한 작성자 이름
+        long viewsCount
+) {
+}
@@ -3,16 +3,23 @@ package com.back.domain.post.post.entity;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.post.postComment.entity.PostComment;
 import com.back.global.jpa.entity.BaseEntity;
+import com.back.global.jpaCache.JpaCacheConfig;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static jakarta.persistence.CascadeType.PERSIST;
 import static jakarta.persistence.CascadeType.REMOVE;
@@ -21,17 +28,41 @@ import static jakarta.persistence.FetchType.LAZY;
 @Entity
 @Getter
 @NoArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = JpaCacheConfig.POST_REGION)
 public class Post extends BaseEntity {
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     private Member author;
+
+    // 목록을 회원 테이블 조인 없이 조회할 수 있도록 작성자 id/이름을 글에 함께 둔다.
+    // authorId 는 author 의 FK 컬럼을 읽기만 하고, authorName 은 닉네임이 바뀌면 AuthorNameSync 가 나중에 맞춘다.
+    @Column(name = "author_id", insertable = false, updatable = false)
+    private int authorId;
+    @Column(updatable = false)
+    private String authorName;
+
     private String title;
     private String content;
 
+    // 동시 작성/삭제에도 어긋나지 않도록 PostCommentsCounter 로만 변경한다.
+    @Column(updatable = false)
+    @ColumnDefault("0")
+    private int commentsCount;
+
+    // 조회마다 UPDATE 하지 않고 PostViewCounter 가 모아서 반영한다.
+    @Column(updatable = false)
+    @ColumnDefault("0")
+    private long viewsCount;
+
+    // 댓글 작성/삭제로 글의 버전이 올라가면 글 수정과 충돌하므로 버전 검사에서 제외
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "post", fetch = LAZY, cascade = {PERSIST, REMOVE}, orphanRemoval = true)
     private List<PostComment> comments = new ArrayList<>();
 
     public Post(Member author, String title, String content) {
         this.author = author;
+        this.authorId = author.getId();
+        this.authorName = author.getName();
         this.title = title;
         this.content = content;
     }
@@ -43,21 +74,20 @@ public class Post extends BaseEntity {
 
     public PostComment addComment(Member author, String content) {
         PostComment postComment = new PostComment(author, this, content);
-        comments.add(postComment);
+
+        // 댓글 목록은 이미 로딩된 경우에만 맞춰 주고, 저장은 PostCommentRepository 가 담당
+        if (Hibernate.isInitialized(comments)) comments.add(postComment);
 
         return postComment;
     }
 
-    public Optional<PostComment> findCommentById(int id) {
-        return comments
-                .stream()
-                .filter(comment -> comment.getId() == id)
-                .findFirst();
+    // DB 는 이미 증감된 상태, 같은 영속성 컨텍스트에서 읽는 값만 맞춰 준다.
+    public void applyCommentsCountDelta(int delta) {
+        this.commentsCount += delta;
     }
 
-    public boolean deleteComment(PostComment postComment) {
-        if (postComment == null) return false;
-
-        return comments.remove(postComment);
+    public void deleteComment(PostComment postComment) {
+        // 로딩된 목록에 남아 있으면 flush 시 cascade 로 다시 저장되므로 함께 제거
+        if (Hibernate.isInitialized(comments)) comments.remove(postComment);
     }
 }
\ No newline at end of file
@@ -1,10 +1,68 @@
 package com.back.domain.post.post.repository;
 
+import com.back.domain.post.post.dto.PostDto;
+import com.back.domain.post.post.dto.PostSearchDocDto;
+import com.back.domain.post.post.dto.PostVersionDto;
 import com.back.domain.post.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Integer> {
     Optional<Post> findFirstByOrderByIdDesc();
-}
\ No newline at end of file
+
+    // 엔티티를 영속성 컨텍스트에 올리지 않고 DTO 컬럼만 조회 (키셋 페이징), 작성자 이름도 글에 있으므로 조인 없음
+    @Query("""
+            select new com.back.domain.post.post.dto.PostDto(
+                p.id, p.createDate, p.modifyDate, p.authorId, p.authorName, p.title, p.content, p.viewsCount, p.version
+            )
+            from Post p
+            where p.id < :cursorId
+            order by p.id desc
+            """)
+    List<PostDto> findDtosByIdLessThan(@Param("cursorId") int cursorId, Pageable pageable);
+
+    // findDtosByIdLessThan 과 같은 범위, 제목/내용 없이 바뀌었는지만 확인
+    @Query("""
+            select new com.back.domain.post.post.dto.PostVersionDto(p.id, p.modifyDate, p.authorName, p.viewsCount)
+            from Post p
+            where p.id < :cursorId
+            order by p.id desc
+            """)
+    List<PostVersionDto> findVersionsByIdLessThan(@Param("cursorId") int cursorId, Pageable pageable);
+
+    @Query("""
+            select new com.back.domain.post.post.dto.PostDto(
+                p.id, p.createDate, p.modifyDate, p.authorId, p.authorName, p.title, p.content, p.viewsCount, p.version
+            )
+            from Post p
+            where p.id = :id
+            """)
+    Optional<PostDto> findDtoById(@Param("id") int id);
+
+    @Query("""
+            select new com.back.domain.post.post.dto.PostDto(
+                p.id, p.createDate, p.modifyDate, p.authorId, p.authorName, p.title, p.content, p.viewsCount, p.version
+            )
+            from Post p
+            where p.id in :ids
+            """)
+    List<PostDto> findDtosByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("select p.id from Post p where p.id in :ids")
+    List<Integer> findIdsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 검색 색인 구축용
+    @Query("""
+            select new com.back.domain.post.post.dto.PostSearchDocDto(p.id, p.title, p.content)
+            from Post p
+            where p.id > :afterId
+            order by p.id asc
+            """)
+    List<PostSearchDocDto> findSearchDocsByIdGreaterThan(@Param("afterId") int afterId, Pageable pageable);
+}
@@ -0,0 +1,228 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.member.member.dto.MemberNameDto;
+import com.back.domain.member.member.event.MemberNicknameModifiedEvent;
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.domain.post.post.entity.Post;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 글/댓글에 저장된 작성자 이름(authorName)을 회원 닉네임에 맞춘다.
+// 닉네임 변경은 요청 안에서 글/댓글을 고치지 않고 대기열에 넣어 두었다가 회원 batchSize 명씩 모아서 반영한다.
+// 대기열은 메모리에 있으므로 종료할 때 비우고, 비정상 종료 등으로 놓친 회원은 repair 가 찾아서 다시 넣는다.
+// 변경 전에 읽은 이름으로 저장하던 요청이 반영보다 늦게 커밋되면 그 글/댓글은 반영에서 빠지므로,
+// 최근에 바뀐 닉네임을 잠시 기억해 두었다가 다른 이름으로 저장된 글/댓글이 커밋되면 회원을 다시 넣는다.
+@Slf4j
+@Component
+public class AuthorNameSync {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MemberRepository memberRepository;
+    private final PostDetailCache postDetailCache;
+    private final int batchSize;
+    private final long recentRenameWindowMillis;
+    // repair 는 이 시각 이후에 수정된 회원만 검사한다. 처음에는 시작 전 한 주기만큼
+    private volatile LocalDateTime repairWatermark;
+    private volatile boolean nullAuthorNamesBackfilled;
+    private final Set<Integer> pendingMemberIds = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Integer, RecentRename> recentRenames = new ConcurrentHashMap<>();
+    // 스케줄러와 repair 가 겹치지 않도록, synchronized 는 JDBC 대기 중 가상 스레드를 고정시키므로 사용하지 않는다.
+    private final ReentrantLock syncLock = new ReentrantLock();
+    // 반영할 때마다 바뀌는 값, 댓글 목록 ETag 에 넣는다. 재시작 전의 ETag 와 겹치지 않도록 시작 시각에서 출발
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+
+    public AuthorNameSync(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory,
+            MemberRepository memberRepository,
+            PostDetailCache postDetailCache,
+            @Value("${custom.post.authorNameSync.batchSize}") int batchSize,
+            @Value("${custom.post.authorNameSync.recentRenameWindowMillis}") long recentRenameWindowMillis,
+            @Value("${custom.post.authorNameSync.repairIntervalMillis}") long repairIntervalMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.memberRepository = memberRepository;
+        this.postDetailCache = postDetailCache;
+        this.batchSize = batchSize;
+        this.recentRenameWindowMillis = recentRenameWindowMillis;
+        this.repairWatermark = LocalDateTime.now().minus(Duration.ofMillis(repairIntervalMillis));
+    }
+
+    private record RecentRename(String nickname, long renamedAtMillis) {
+    }
+
+    // 롤백된 변경은 반영하지 않도록 커밋된 뒤에 대기열에 넣는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(MemberNicknameModifiedEvent event) {
+        // 반영보다 먼저 기록해야, 반영 뒤에 커밋된 글/댓글이 onAuthorNameWritten 에서 반드시 보인다.
+        recentRenames.put(event.memberId(), new RecentRename(event.nickname(), System.currentTimeMillis()));
+        pendingMemberIds.add(event.memberId());
+    }
+
+    // 작성자 이름을 저장한 트랜잭션이 커밋된 뒤 호출
+    // 여기서 닉네임 변경이 보이지 않았다면 그 변경의 반영은 아직 시작 전이므로, 이 글/댓글도 그때 함께 반영된다.
+    public void onAuthorNameWritten(int memberId, String authorName) {
+        RecentRename recentRename = recentRenames.get(memberId);
+        if (recentRename == null || recentRename.nickname().equals(authorName)) return;
+
+        pendingMemberIds.add(memberId);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.post.authorNameSync.intervalMillis}",
+            fixedDelayString = "${custom.post.authorNameSync.intervalMillis}"
+    )
+    public void sync() {
+        syncLock.lock();
+
+        try {
+            // 변경 전에 읽은 이름으로 저장하는 요청은 길어야 몇 초 안에 끝나므로 오래된 기록은 버린다.
+            long expiredMillis = System.currentTimeMillis() - recentRenameWindowMillis;
+            recentRenames.values().removeIf(recentRename -> recentRename.renamedAtMillis() < expiredMillis);
+
+            while (!pendingMemberIds.isEmpty()) {
+                if (!syncBatch(take(batchSize))) break; // 실패하면 다음 주기에 다시 시도
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private List<Integer> take(int size) {
+        List<Integer> memberIds = new ArrayList<>(size);
+
+        Iterator<Integer> iterator = pendingMemberIds.iterator();
+        while (iterator.hasNext() && memberIds.size() < size) {
+            memberIds.add(iterator.next());
+            iterator.remove();
+        }
+
+        return memberIds;
+    }
+
+    private boolean syncBatch(List<Integer> memberIds) {
+        List<Integer> postIds = new ArrayList<>();
+
+        try {
+            // 이벤트의 닉네임이 아니라 지금 닉네임으로 맞춘다. 연달아 바뀌어도 순서가 꼬이지 않는다. (탈퇴한 회원은 제외)
+            transactionTemplate.executeWithoutResult(status -> {
+                List<MemberNameDto> members = memberRepository.findNamesByIdIn(memberIds);
+
+                // 고칠 글을 잠그고 id 를 받아 그 글만 갱신한다. 캐시에서도 그 글만 지운다.
+                // 이미 맞는 글은 건드리지 않으므로 작성자의 글이 많아도 닉네임이 바뀐 뒤 처음 한 번만 갱신된다.
+                List<Object[]> postBatchArgs = new ArrayList<>();
+                for (MemberNameDto member : members) {
+                    jdbcTemplate.queryForList(
+                            "select id from post where author_id = ? and (author_name is null or author_name <> ?) for update",
+                            Integer.class, member.id(), member.name()
+                    ).forEach(postId -> {
+                        postIds.add(postId);
+                        postBatchArgs.add(new Object[]{member.name(), postId});
+                    });
+                }
+                jdbcTemplate.batchUpdate("update post set author_name = ? where id = ?", postBatchArgs);
+
+                // 댓글은 2차 캐시/단건 캐시가 없으므로 회원마다 한 문장, 목록 ETag 는 generation 으로 바뀐다.
+                jdbcTemplate.batchUpdate(
+                        "update post_comment set author_name = ? where author_id = ? and (author_name is null or author_name <> ?)",
+                        members
+                                .stream()
+                                .map(member -> new Object[]{member.name(), member.id(), member.name()})
+                                .toList()
+                );
+            });
+        } catch (RuntimeException e) {
+            pendingMemberIds.addAll(memberIds);
+            log.warn("작성자 이름 반영 실패, 다음 주기에 다시 시도합니다. (회원 {}명)", memberIds.size(), e);
+
+            return false;
+        }
+
+        // JDBC 로 직접 갱신했으므로 바뀐 글만 2차 캐시와 단건 응답 캐시에서 지운다.
+        Cache cache = entityManagerFactory.getCache();
+        postIds.forEach(postId -> {
+            cache.evict(Post.class, postId);
+            postDetailCache.evict(postId);
+        });
+        generation.incrementAndGet();
+
+        log.debug("작성자 이름 반영: 회원 {}명, 글 {}건", memberIds.size(), postIds.size());
+
+        return true;
+    }
+
+    // 이름이 어긋난 글/댓글의 작성자를 찾아 다시 반영한다. (비정상 종료로 잃은 대기열, 반영 실패 등)
+    // 전체를 조인하지 않도록 지난 검사 이후 수정된(닉네임 변경 포함) 회원만 보고, 그 회원의 글/댓글은 author_id 인덱스로 확인한다.
+    @Scheduled(fixedDelayString = "${custom.post.authorNameSync.repairIntervalMillis}")
+    public void repair() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime watermark = repairWatermark;
+
+        Set<Integer> memberIds = new LinkedHashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            memberIds.addAll(jdbcTemplate.queryForList("""
+                    select m.id
+                    from member m
+                    where m.modify_date >= ?
+                    and (
+                        exists (select 1 from post p where p.author_id = m.id and (p.author_name is null or p.author_name <> m.nickname))
+                        or exists (select 1 from post_comment c where c.author_id = m.id and (c.author_name is null or c.author_name <> m.nickname))
+                    )
+                    """, Integer.class, watermark));
+
+            // author_name 컬럼이 추가되기 전의 행(NULL)은 회원 수정 시각과 상관없으므로 시작할 때 한 번만 찾는다. (조인 없이)
+            if (!nullAuthorNamesBackfilled) {
+                memberIds.addAll(jdbcTemplate.queryForList("""
+                        select distinct author_id from post where author_name is null
+                        union
+                        select distinct author_id from post_comment where author_name is null
+                        """, Integer.class));
+            }
+        });
+
+        nullAuthorNamesBackfilled = true;
+        // 검사 시작 전에 수정됐지만 아직 커밋되지 않았던 회원도 다음 검사에서 보이도록 겹치게 잡는다.
+        repairWatermark = startedAt.minus(Duration.ofMillis(recentRenameWindowMillis));
+
+        if (memberIds.isEmpty()) return;
+
+        log.info("작성자 이름이 어긋난 회원 {}명을 다시 반영합니다.", memberIds.size());
+
+        pendingMemberIds.addAll(memberIds);
+        sync();
+    }
+
+    // 정상 종료할 때는 대기열을 비우고 끝낸다.
+    @PreDestroy
+    public void drain() {
+        sync();
+    }
+}
@@ -0,0 +1,50 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.entity.Post;
+import com.back.global.transaction.TransactionHooks;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+// 글의 댓글 수, 읽고-쓰기 대신 한 문장으로 증감해서 동시 댓글 작성/삭제에도 값이 어긋나지 않게 한다.
+// JPQL 벌크 UPDATE 는 Hibernate 가 글 2차 캐시 영역 전체를 비우므로, JDBC 로 갱신하고 해당 글만 지운다.
+@Component
+@RequiredArgsConstructor
+public class PostCommentsCounter {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void increase(int postId, int delta) {
+        jdbcTemplate.update("update post set comments_count = comments_count + ? where id = ?", delta, postId);
+
+        evictAfterCompletion(List.of(postId));
+    }
+
+    // 글마다 UPDATE 한 문장, JDBC 배치로 한 번에 보낸다.
+    public void increaseAll(Map<Integer, Integer> deltaByPostId) {
+        if (deltaByPostId.isEmpty()) return;
+
+        List<Object[]> batchArgs = deltaByPostId.entrySet()
+                .stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate("update post set comments_count = comments_count + ? where id = ?", batchArgs);
+
+        evictAfterCompletion(List.copyOf(deltaByPostId.keySet()));
+    }
+
+    private void evictAfterCompletion(List<Integer> postIds) {
+        evict(postIds);
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시했을 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 지운다.
+        TransactionHooks.afterCompletion(() -> evict(postIds));
+    }
+
+    private void evict(List<Integer> postIds) {
+        postIds.forEach(postId -> entityManagerFactory.getCache().evict(Post.class, postId));
+    }
+}
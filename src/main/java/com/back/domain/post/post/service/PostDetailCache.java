@@ -0,0 +1,88 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.dto.PostDto;
+import com.back.global.cache.InvalidationStamps;
+import com.back.global.transaction.TransactionHooks;
+import com.back.global.webMvc.ETags;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+// 글 단건 조회 응답(JSON 바이트) 캐시, 적중하면 Hibernate 와 Jackson 을 모두 건너뛴다.
+@Component
+public class PostDetailCache {
+    private final ObjectMapper objectMapper;
+    private final Cache<Integer, Entry> cache;
+    private final InvalidationStamps invalidationStamps = new InvalidationStamps();
+
+    // etag 는 JSON 을 만들 때 한 번만 계산한다. 글 버전이 들어가 수정 요청의 If-Match 와 비교된다.
+    // Last-Modified 는 두지 않는다. 초 단위라서 같은 초 안에 응답이 바뀌면 If-Modified-Since 로 이전 응답이 304 가 될 수 있다.
+    public record Entry(byte[] json, String etag) {
+    }
+
+    public PostDetailCache(
+            ObjectMapper objectMapper,
+            @Value("${custom.post.detailCache.maxSize}") long maxSize,
+            @Value("${custom.post.detailCache.ttlSeconds}") long ttlSeconds
+    ) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Entry get(int id, IntFunction<Optional<PostDto>> loader) {
+        Entry cached = cache.getIfPresent(id);
+        if (cached != null) return cached;
+
+        // 가상 스레드 pinning 을 피하기 위해 DB 조회는 캐시 락 밖에서 (MemberActorCache 참고), 없는 글은 캐시하지 않는다.
+        long stamp = invalidationStamps.stamp(id);
+        Entry entry = loader.apply(id)
+                .map(this::toEntry)
+                .orElseThrow(() -> new NoSuchElementException("post %d not found".formatted(id)));
+        cache.put(id, entry);
+        // 조회하는 동안 수정이 커밋되어 무효화되었다면 이전 글일 수 있으므로 되돌린다. (이번 응답에는 그대로 사용)
+        if (invalidationStamps.stamp(id) != stamp) cache.invalidate(id);
+
+        return entry;
+    }
+
+    private Entry toEntry(PostDto postDto) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(postDto);
+
+            return new Entry(json, ETags.versioned(postDto.version(), json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void evict(int id) {
+        invalidate(id);
+        // 트랜잭션이 끝나기 전에 다른 요청이 이전 값을 다시 적재했을 수 있으므로 끝난 뒤 한 번 더 제거
+        TransactionHooks.afterCompletion(() -> invalidate(id));
+    }
+
+    private void invalidate(int id) {
+        invalidationStamps.invalidate(id); // 진행 중인 적재가 put 하더라도 남지 않도록 먼저 올린다.
+        cache.invalidate(id);
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+}
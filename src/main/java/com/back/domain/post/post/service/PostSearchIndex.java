@@ -0,0 +1,284 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.dto.PostSearchDocDto;
+import com.back.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 글 제목/내용 역색인, LIKE '%q%' 풀스캔 없이 메모리에서 검색한다.
+// 기동 시 기존 글로 만들고, 이후에는 PostService 의 작성/수정/삭제가 커밋된 뒤 반영된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+    private static final int TITLE_WEIGHT = 3; // 제목에 나온 단어는 내용보다 높은 점수
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+
+    // 가상 스레드를 고정시키지 않도록 synchronized 대신 ReadWriteLock 사용
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Integer, String[]> termsByPostId = new HashMap<>(); // 수정/삭제 시 기존 토큰을 지우기 위해 보관
+    private Set<Integer> touchedPostIdsWhileBuilding; // build() 중에만, 그 사이 작성/수정/삭제가 반영된 글 id
+
+    public record Result(int totalCount, List<Integer> postIds) {
+    }
+
+    // 요청을 받는 중에 실행되므로, 읽어 둔 배치를 반영하기 전에 커밋된 작성/수정/삭제가 있으면 그 글은 건너뛴다.
+    // (건너뛰지 않으면 오래된 내용으로 덮거나 삭제된 글을 되살린다.)
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        lock.writeLock().lock();
+        try {
+            touchedPostIdsWhileBuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int afterId = 0;
+        int count = 0;
+
+        try {
+            while (true) {
+                List<PostSearchDocDto> docs = postRepository
+                        .findSearchDocsByIdGreaterThan(afterId, PageRequest.of(0, BUILD_BATCH_SIZE));
+
+                if (docs.isEmpty()) break;
+
+                docs.forEach(doc -> put(doc.id(), termFreqsOf(doc.title(), doc.content()), true));
+                afterId = docs.getLast().id();
+                count += docs.size();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                touchedPostIdsWhileBuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        log.info("검색 색인 완료: 글 {}건, 단어 {}개", count, termCount());
+    }
+
+    public void index(int postId, String title, String content) {
+        put(postId, termFreqsOf(title, content), false);
+    }
+
+    private static Map<String, Integer> termFreqsOf(String title, String content) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        tokenize(title).forEach(term -> termFreqs.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(content).forEach(term -> termFreqs.merge(term, 1, Integer::sum));
+
+        return termFreqs;
+    }
+
+    private void put(int postId, Map<String, Integer> termFreqs, boolean fromBuild) {
+        lock.writeLock().lock();
+        try {
+            if (touchedPostIdsWhileBuilding != null) {
+                if (!fromBuild) touchedPostIdsWhileBuilding.add(postId);
+                else if (touchedPostIdsWhileBuilding.contains(postId)) return; // 이미 더 최신 내용이 반영됨
+            }
+
+            removeLocked(postId);
+
+            termFreqs.forEach((term, freq) ->
+                    postingsByTerm.computeIfAbsent(term, key -> new Postings()).put(postId, freq)
+            );
+            termsByPostId.put(postId, termFreqs.keySet().toArray(String[]::new));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int postId) {
+        lock.writeLock().lock();
+        try {
+            if (touchedPostIdsWhileBuilding != null) touchedPostIdsWhileBuilding.add(postId);
+
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(int postId) {
+        String[] terms = termsByPostId.remove(postId);
+        if (terms == null) return;
+
+        for (String term : terms) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings == null) continue;
+
+            postings.remove(postId);
+            if (postings.size == 0) postingsByTerm.remove(term);
+        }
+    }
+
+    // 모든 검색어를 포함한 글만(AND), TF-IDF 점수가 높은 순으로
+    public Result search(String q, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(q));
+        if (terms.isEmpty()) return new Result(0, List.of());
+
+        lock.readLock().lock();
+        try {
+            List<Postings> postingsList = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) return new Result(0, List.of());
+
+                postingsList.add(postings);
+            }
+
+            // 가장 짧은 목록을 기준으로 나머지에 모두 있는지 이진 탐색
+            postingsList.sort(Comparator.comparingInt(postings -> postings.size));
+            Postings shortest = postingsList.getFirst();
+
+            double docCount = termsByPostId.size();
+            double[] idfs = postingsList.stream()
+                    .mapToDouble(postings -> Math.log(1 + docCount / postings.size))
+                    .toArray();
+
+            // 현재 페이지까지만 남기는 최소 힙, 후보(가장 짧은 목록)보다 크게 잡지 않는다.
+            int keep = Math.addExact(offset, limit);
+            PriorityQueue<ScoredPost> top = new PriorityQueue<>(Math.min(keep, shortest.size) + 1, ScoredPost.ORDER);
+            int totalCount = 0;
+
+            candidates:
+            for (int i = 0; i < shortest.size; i++) {
+                int postId = shortest.ids[i];
+                double score = idfs[0] * tfWeight(shortest.freqs[i]);
+
+                for (int j = 1; j < postingsList.size(); j++) {
+                    int freq = postingsList.get(j).freqOf(postId);
+                    if (freq == 0) continue candidates;
+
+                    score += idfs[j] * tfWeight(freq);
+                }
+
+                totalCount++;
+                top.add(new ScoredPost(postId, score));
+                if (top.size() > keep) top.poll();
+            }
+
+            List<ScoredPost> ranked = new ArrayList<>(top);
+            ranked.sort(ScoredPost.ORDER.reversed());
+
+            List<Integer> postIds = ranked.stream()
+                    .skip(offset)
+                    .map(ScoredPost::postId)
+                    .toList();
+
+            return new Result(totalCount, postIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double tfWeight(int freq) {
+        return 1 + Math.log(freq);
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByTerm.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 글자/숫자 연속 구간을 소문자 토큰으로, 한글은 조사가 붙어도 찾을 수 있게 3글자 이상이면 2글자씩 끊는다.
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letterOrDigit = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+
+            if (letterOrDigit && start < 0) start = i;
+            else if (!letterOrDigit && start >= 0) {
+                addTokens(tokens, text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+
+        return tokens;
+    }
+
+    private static void addTokens(List<String> tokens, String word) {
+        if (word.length() <= 2 || !containsHangul(word)) {
+            tokens.add(word);
+            return;
+        }
+
+        for (int i = 0; i + 2 <= word.length(); i++) tokens.add(word.substring(i, i + 2));
+    }
+
+    private static boolean containsHangul(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.UnicodeScript.of(word.charAt(i)) == Character.UnicodeScript.HANGUL) return true;
+        }
+
+        return false;
+    }
+
+    private record ScoredPost(int postId, double score) {
+        // 점수가 같으면 최신 글 우선
+        static final Comparator<ScoredPost> ORDER = Comparator
+                .comparingDouble(ScoredPost::score)
+                .thenComparingInt(ScoredPost::postId);
+    }
+
+    // 한 단어가 나온 글 id(오름차순)와 빈도, 새 글은 id 가 가장 크므로 대부분 끝에 붙는다.
+    private static class Postings {
+        private int[] ids = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void put(int postId, int freq) {
+            int index = Arrays.binarySearch(ids, 0, size, postId);
+            if (index >= 0) {
+                freqs[index] = freq;
+                return;
+            }
+
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(freqs, insertAt, freqs, insertAt + 1, size - insertAt);
+            ids[insertAt] = postId;
+            freqs[insertAt] = freq;
+            size++;
+        }
+
+        void remove(int postId) {
+            int index = Arrays.binarySearch(ids, 0, size, postId);
+            if (index < 0) return;
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(freqs, index + 1, freqs, index, size - index - 1);
+            size--;
+        }
+
+        int freqOf(int postId) {
+            int index = Arrays.binarySearch(ids, 0, size, postId);
+
+            return index >= 0 ? freqs[index] : 0;
+        }
+    }
+}
@@ -1,19 +1,57 @@
 package com.back.domain.post.post.service;
 
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.post.post.dto.PostDto;
+import com.back.domain.post.post.dto.PostPageDto;
+import com.back.domain.post.post.dto.PostSearchPageDto;
+import com.back.domain.post.post.dto.PostVersionDto;
 import com.back.domain.post.post.entity.Post;
 import com.back.domain.post.post.repository.PostRepository;
+import com.back.domain.post.postComment.dto.PostCommentDto;
+import com.back.domain.post.postComment.dto.PostCommentPageDto;
 import com.back.domain.post.postComment.entity.PostComment;
+import com.back.domain.post.postComment.event.PostCommentChangedEvent;
+import com.back.domain.post.postComment.repository.PostCommentRepository;
+import com.back.global.exception.ServiceException;
+import com.back.global.pageCursor.PageCursor;
+import com.back.global.transaction.TransactionHooks;
+import com.back.global.webMvc.ETags;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
     private final PostRepository postRepository;
+    private final PostCommentRepository postCommentRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostViewCounter postViewCounter;
+    private final PostCommentsCounter postCommentsCounter;
+    private final TrendingService trendingService;
+    private final AuthorNameSync authorNameSync;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${custom.post.maxPageSize}")
+    private int maxPageSize;
+
+    @Value("${custom.post.searchMaxResults}")
+    private int searchMaxResults;
+
+    @Value("${custom.postComment.maxPageSize}")
+    private int maxCommentPageSize;
 
     public long count() {
         return postRepository.count();
@@ -21,36 +59,201 @@ public class PostService {
 
     public Post write(Member author, String title, String content) {
         Post post = new Post(author, title, content);
+        postRepository.save(post);
+
+        TransactionHooks.afterCommit(() -> {
+            postSearchIndex.index(post.getId(), title, content);
+            trendingService.onPostWritten(post.getId());
+            authorNameSync.onAuthorNameWritten(author.getId(), post.getAuthorName());
+        });
+
+        return post;
+    }
+
+    // 시퀀스로 id 를 미리 받아 두므로 INSERT 는 커밋 시점에 jdbc.batch_size 단위로 묶여 실행된다.
+    public List<Post> writeAll(List<Post> posts) {
+        postRepository.saveAll(posts);
 
-        return postRepository.save(post);
+        TransactionHooks.afterCommit(() ->
+                posts.forEach(post -> {
+                    postSearchIndex.index(post.getId(), post.getTitle(), post.getContent());
+                    trendingService.onPostWritten(post.getId());
+                    authorNameSync.onAuthorNameWritten(post.getAuthor().getId(), post.getAuthorName());
+                })
+        );
+
+        return posts;
     }
 
     public Optional<Post> findById(int id) {
         return postRepository.findById(id);
     }
 
+    public PostDetailCache.Entry findDetail(int id) { // 단건 조회 응답(JSON, ETag), 캐시에 없을 때만 DB 조회
+        return postDetailCache.get(id, postRepository::findDtoById);
+    }
+
+    public void increaseViewsCount(int id) { // DB 반영은 PostViewCounter 가 모아서
+        postViewCounter.increase(id);
+        trendingService.onViewed(id);
+    }
+
+    public byte[] findTrendingJson() { // DB 를 거치지 않고 미리 만들어 둔 응답
+        return trendingService.getJson();
+    }
+
+    public PostSearchPageDto search(String q, int page, int pageSize) {
+        int size = Math.max(1, Math.min(pageSize, maxPageSize));
+
+        // 색인은 offset + size 건을 힙에 들고 있어야 하므로 앞쪽 searchMaxResults 건까지만 페이지로 넘길 수 있다.
+        long offset = (long) (Math.max(page, 1) - 1) * size;
+        if (offset + size > searchMaxResults)
+            throw new ServiceException("400-1", "page-Max-검색 결과는 %d페이지까지 조회할 수 있습니다.".formatted(searchMaxResults / size));
+
+        PostSearchIndex.Result result = postSearchIndex.search(q, (int) offset, size);
+
+        if (result.postIds().isEmpty())
+            return new PostSearchPageDto(q, Math.max(page, 1), size, result.totalCount(), List.of());
+
+        // 색인이 정한 순서를 유지하며 DTO 컬럼만 한 번에 조회
+        Map<Integer, PostDto> postDtosById = postRepository.findDtosByIdIn(result.postIds())
+                .stream()
+                .collect(Collectors.toMap(PostDto::id, Function.identity()));
+
+        List<PostDto> items = result.postIds()
+                .stream()
+                .map(postDtosById::get)
+                .filter(Objects::nonNull) // 색인 반영 전에 삭제된 글
+                .toList();
+
+        return new PostSearchPageDto(q, Math.max(page, 1), size, result.totalCount(), items);
+    }
+
     public List<Post> findAll() {
         return postRepository.findAll();
     }
 
+    // findPage 와 같은 범위를 가벼운 컬럼으로만 조회해서 만든 ETag, 같으면 DTO 조회와 직렬화를 건너뛸 수 있다.
+    public String findPageEtag(String cursor, int pageSize) {
+        int cursorId = cursor == null || cursor.isBlank() ? Integer.MAX_VALUE : PageCursor.decode(cursor);
+        int size = Math.max(1, Math.min(pageSize, maxPageSize));
+
+        List<PostVersionDto> rows = postRepository.findVersionsByIdLessThan(cursorId, PageRequest.of(0, size + 1));
+
+        return ETags.of(size, rows);
+    }
+
+    public PostPageDto findPage(String cursor, int pageSize) {
+        int cursorId = cursor == null || cursor.isBlank() ? Integer.MAX_VALUE : PageCursor.decode(cursor);
+        int size = Math.max(1, Math.min(pageSize, maxPageSize)); // 요청값과 상관없이 최대 페이지 크기를 넘지 않도록
+
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회
+        List<PostDto> rows = postRepository.findDtosByIdLessThan(cursorId, PageRequest.of(0, size + 1));
+
+        if (rows.size() <= size) return new PostPageDto(rows, null);
+
+        List<PostDto> items = rows.subList(0, size);
+
+        return new PostPageDto(items, PageCursor.encode(items.getLast().id()));
+    }
+
     public void modify(Post post, String title, String content) {
         post.modify(title, content);
+        postDetailCache.evict(post.getId());
+
+        TransactionHooks.afterCommit(() -> postSearchIndex.index(post.getId(), title, content));
+    }
+
+    // 글 전체 댓글 기준이라 다른 페이지가 바뀌어도 달라지지만, 한 번의 집계 조회로 확인할 수 있다.
+    // 작성자 이름은 집계로 알 수 없으므로 이름이 반영될 때마다 바뀌는 generation 을 함께 넣는다.
+    public String findCommentPageEtag(Post post) {
+        return ETags.of(post.getId(), postCommentRepository.findVersionByPostId(post.getId()), authorNameSync.generation());
+    }
+
+    public PostCommentPageDto findCommentPage(Post post, String after, String before, int pageSize) {
+        int size = Math.max(1, Math.min(pageSize, maxCommentPageSize));
+        PageRequest pageRequest = PageRequest.of(0, size + 1); // 더 있는지 확인하기 위해 1건 더 조회
+
+        if (before != null && !before.isBlank()) {
+            List<PostCommentDto> rows = postCommentRepository
+                    .findDtosByPostIdAndIdLessThan(post.getId(), PageCursor.decode(before), pageRequest);
+
+            boolean hasPrev = rows.size() > size;
+            List<PostCommentDto> items = new ArrayList<>(hasPrev ? rows.subList(0, size) : rows).reversed();
+
+            return toCommentPage(post, items, hasPrev, true);
+        }
+
+        int afterId = after == null || after.isBlank() ? 0 : PageCursor.decode(after);
+        List<PostCommentDto> rows = postCommentRepository
+                .findDtosByPostIdAndIdGreaterThan(post.getId(), afterId, pageRequest);
+
+        boolean hasNext = rows.size() > size;
+        List<PostCommentDto> items = hasNext ? rows.subList(0, size) : rows;
+
+        return toCommentPage(post, items, afterId > 0, hasNext);
+    }
+
+    private PostCommentPageDto toCommentPage(Post post, List<PostCommentDto> items, boolean hasPrev, boolean hasNext) {
+        if (items.isEmpty()) return new PostCommentPageDto(post.getCommentsCount(), items, null, null);
+
+        return new PostCommentPageDto(
+                post.getCommentsCount(),
+                items,
+                hasPrev ? PageCursor.encode(items.getFirst().id()) : null,
+                hasNext ? PageCursor.encode(items.getLast().id()) : null
+        );
+    }
+
+    public Optional<PostComment> findCommentById(int postId, int id) {
+        return postCommentRepository.findByPostIdAndId(postId, id);
     }
 
     public PostComment writeComment(Member author, Post post, String content) {
-        return post.addComment(author, content);
+        PostComment postComment = post.addComment(author, content);
+        postCommentRepository.save(postComment);
+
+        postCommentsCounter.increase(post.getId(), 1);
+        post.applyCommentsCountDelta(1);
+
+        TransactionHooks.afterCommit(() -> {
+            trendingService.onCommentWritten(post.getId());
+            authorNameSync.onAuthorNameWritten(author.getId(), postComment.getAuthorName());
+        });
+        eventPublisher.publishEvent(new PostCommentChangedEvent(PostCommentChangedEvent.Type.WRITE, postComment));
+
+        return postComment;
     }
 
-    public boolean deleteComment(Post post, PostComment postComment) {
-        return post.deleteComment(postComment);
+    public void deleteComment(PostComment postComment) {
+        Post post = postComment.getPost();
+
+        postCommentRepository.delete(postComment);
+        postCommentsCounter.increase(post.getId(), -1);
+
+        // 글이 프록시 상태라면 댓글 목록도 로딩되지 않은 것이므로 건드리지 않는다.
+        if (Hibernate.isInitialized(post)) {
+            post.deleteComment(postComment);
+            post.applyCommentsCountDelta(-1);
+        }
+
+        eventPublisher.publishEvent(new PostCommentChangedEvent(PostCommentChangedEvent.Type.DELETE, postComment));
     }
 
     public void modifyComment(PostComment postComment, String content) {
         postComment.modify(content);
+        eventPublisher.publishEvent(new PostCommentChangedEvent(PostCommentChangedEvent.Type.MODIFY, postComment));
     }
 
     public void delete(Post post) {
         postRepository.delete(post);
+        postDetailCache.evict(post.getId());
+
+        TransactionHooks.afterCommit(() -> {
+            postSearchIndex.remove(post.getId());
+            trendingService.onPostDeleted(post.getId());
+            postViewCounter.remove(post.getId());
+        });
     }
 
     public Optional<Post> findLatest() {
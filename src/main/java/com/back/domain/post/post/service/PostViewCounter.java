@@ -0,0 +1,145 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.entity.Post;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 글 조회수, 조회마다 UPDATE 하지 않고 메모리에 모아 두었다가 주기적으로 한 번에 반영한다. (write-behind)
+@Slf4j
+@Component
+public class PostViewCounter {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ConcurrentHashMap<Integer, Counter> counters = new ConcurrentHashMap<>();
+    // 스케줄러와 종료 시 반영이 겹치지 않도록, synchronized 는 JDBC 대기 중 가상 스레드를 고정시키므로 사용하지 않는다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public PostViewCounter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // LongAdder 는 스레드마다 다른 셀에 더하므로 인기 글 하나에 조회가 몰려도 경합하지 않는다.
+    // 누적값은 리셋하지 않고 반영한 값(flushed)과의 차이만 내보내서, 반영 도중 들어온 조회도 잃어버리지 않는다.
+    private static class Counter {
+        private final LongAdder views = new LongAdder();
+        private long flushed; // flushLock 안에서만 사용
+        private volatile boolean removed;
+    }
+
+    public void increase(int postId) {
+        while (true) {
+            Counter counter = counters.get(postId);
+            if (counter == null) counter = counters.computeIfAbsent(postId, key -> new Counter());
+
+            counter.views.increment();
+
+            if (!counter.removed) return;
+
+            // 맵에서 빠지는 중인 카운터에 더했다. 제거하는 쪽이 이 값을 봤는지 알 수 없으므로 되돌리고 다시 시도
+            // (제거하는 쪽은 removed 를 먼저 세운 뒤 합계를 보므로, 되돌리지 않은 증가는 반드시 보고 제거를 취소한다.)
+            counter.views.decrement();
+        }
+    }
+
+    // 글이 삭제되면 더 반영할 곳이 없으므로 카운터를 버린다.
+    public void remove(int postId) {
+        Counter counter = counters.remove(postId);
+        if (counter != null) counter.removed = true;
+    }
+
+    public boolean contains(int postId) {
+        return counters.containsKey(postId);
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.post.viewCounter.flushIntervalMillis}",
+            fixedDelayString = "${custom.post.viewCounter.flushIntervalMillis}"
+    )
+    public void flush() {
+        flushLock.lock();
+
+        try {
+            List<Integer> postIds = new ArrayList<>();
+            List<Counter> flushedCounters = new ArrayList<>();
+            List<Object[]> batchArgs = new ArrayList<>();
+            List<Integer> idlePostIds = new ArrayList<>();
+
+            counters.forEach((postId, counter) -> {
+                long views = counter.views.sum();
+                long delta = views - counter.flushed;
+
+                if (delta == 0) {
+                    idlePostIds.add(postId);
+                    return;
+                }
+
+                postIds.add(postId);
+                flushedCounters.add(counter);
+                batchArgs.add(new Object[]{delta, postId});
+            });
+
+            // 한 주기 동안 조회가 없던 카운터는 맵에서 뺀다. 빼지 않으면 한 번이라도 조회된 글의 카운터가 계속 쌓인다.
+            // 방금 반영한 카운터는 다시 조회될 가능성이 높으므로 다음 주기까지 둔다.
+            idlePostIds.forEach(this::removeIfFlushed);
+
+            if (batchArgs.isEmpty()) return;
+
+            // 글마다 UPDATE 한 문장, JDBC 배치로 한 번에 보낸다. (삭제된 글은 0건 갱신)
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate("update post set views_count = views_count + ? where id = ?", batchArgs)
+            );
+
+            // 커밋된 뒤에만 반영한 것으로 기록, 실패하면 다음 주기에 다시 시도
+            for (int i = 0; i < flushedCounters.size(); i++) {
+                flushedCounters.get(i).flushed += (long) batchArgs.get(i)[0];
+            }
+
+            // JDBC 로 직접 갱신했으므로 2차 캐시에 남은 글은 지운다.
+            postIds.forEach(postId -> entityManagerFactory.getCache().evict(Post.class, postId));
+
+            log.debug("조회수 반영: 글 {}개", postIds.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // flushLock 안에서만 호출
+    private void removeIfFlushed(int postId) {
+        counters.computeIfPresent(postId, (key, counter) -> {
+            counter.removed = true;
+
+            // removed 를 세운 뒤에도 반영하지 않은 조회가 보이면 제거를 취소 (increase 참고)
+            if (counter.views.sum() != counter.flushed) {
+                counter.removed = false;
+                return counter;
+            }
+
+            return null;
+        });
+    }
+
+    // 웹 서버가 먼저 멈춘 뒤(graceful shutdown) 호출되므로 남은 조회수를 모두 반영하고 종료한다.
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
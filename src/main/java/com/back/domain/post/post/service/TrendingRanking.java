@@ -0,0 +1,88 @@
+package com.back.domain.post.post.service;
+
+import java.util.*;
+
+// 시간 감쇠 점수로 상위 K개 글을 유지하는 자료구조, 동기화는 TrendingService 가 담당한다.
+// 점수를 매번 깎지 않고 나중에 들어온 이벤트일수록 큰 가중치(2^(경과시간/반감기))를 더한다. (forward decay)
+// 그러면 이벤트가 들어와도 점수는 늘기만 해서 상위 K개를 정확하게 증분 갱신할 수 있고,
+// 주기적으로 모든 점수에 같은 비율을 곱해 값을 줄여도(decay) 순위는 바뀌지 않는다.
+class TrendingRanking {
+    private static final double MIN_SCORE = 0.01; // decay 후 이보다 작으면 상위권이 아닌 한 버린다.
+    private static final Comparator<Ranked> ORDER = Comparator
+            .comparingDouble(Ranked::score)
+            .reversed()
+            .thenComparingInt(Ranked::postId);
+
+    private final int size;
+    private final double halfLifeMillis;
+    private long baseMillis; // 가중치 1 의 기준 시각, decay 할 때마다 옮겨진다.
+
+    private final HashMap<Integer, Double> scores = new HashMap<>();
+    private final TreeSet<Ranked> top = new TreeSet<>(ORDER); // 점수 높은 순, 최대 size 개
+    private final HashMap<Integer, Ranked> topByPostId = new HashMap<>();
+
+    private record Ranked(int postId, double score) {
+    }
+
+    TrendingRanking(int size, long halfLifeMillis, long nowMillis) {
+        this.size = size;
+        this.halfLifeMillis = halfLifeMillis;
+        this.baseMillis = nowMillis;
+    }
+
+    void add(int postId, double weight, long nowMillis) {
+        double score = scores.merge(postId, weight * Math.pow(2, (nowMillis - baseMillis) / halfLifeMillis), Double::sum);
+
+        Ranked old = topByPostId.remove(postId);
+
+        if (old != null) {
+            top.remove(old);
+        } else if (top.size() == size) {
+            // 상위권 밖의 점수는 모두 top.last() 이하이므로, 이걸 넘을 때만 자리를 바꾼다.
+            if (score <= top.last().score()) return;
+
+            topByPostId.remove(top.pollLast().postId());
+        }
+
+        putTop(postId, score);
+    }
+
+    void remove(int postId) {
+        scores.remove(postId);
+
+        Ranked old = topByPostId.remove(postId);
+        if (old == null) return;
+
+        top.remove(old);
+
+        // 빈 자리는 상위권 밖에서 가장 높은 점수로 채운다. 삭제는 드물어서 전체를 훑는다.
+        scores.entrySet()
+                .stream()
+                .filter(entry -> !topByPostId.containsKey(entry.getKey()))
+                .max(Map.Entry.comparingByValue())
+                .ifPresent(entry -> putTop(entry.getKey(), entry.getValue()));
+    }
+
+    void decay(long nowMillis) {
+        double factor = Math.pow(2, -(nowMillis - baseMillis) / halfLifeMillis);
+        baseMillis = nowMillis;
+
+        scores.replaceAll((postId, score) -> score * factor);
+        scores.entrySet().removeIf(entry -> entry.getValue() < MIN_SCORE && !topByPostId.containsKey(entry.getKey()));
+
+        List<Ranked> ranked = new ArrayList<>(top);
+        top.clear();
+        topByPostId.clear();
+        ranked.forEach(r -> putTop(r.postId(), scores.get(r.postId())));
+    }
+
+    List<Integer> topPostIds() {
+        return top.stream().map(Ranked::postId).toList();
+    }
+
+    private void putTop(int postId, double score) {
+        Ranked ranked = new Ranked(postId, score);
+        top.add(ranked);
+        topByPostId.put(postId, ranked);
+    }
+}
@@ -0,0 +1,186 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.dto.PostDto;
+import com.back.domain.post.post.dto.PostTrendingDto;
+import com.back.domain.post.post.repository.PostRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 인기 글, 작성/댓글/조회 이벤트로 상위 K개를 증분 갱신하고
+// 응답(JSON 바이트)은 주기적으로 만들어 두어 요청 시에는 메모리에서 바로 내려준다.
+// 이벤트는 요청 스레드에서 글별 LongAdder 에 더하기만 하고(락 없음), refresh 가 모아서 순위에 반영한다.
+// 반영 시각이 refresh 시각으로 맞춰지지만 갱신 주기가 반감기보다 훨씬 짧아서 순위에는 영향이 거의 없고,
+// 응답도 refresh 때만 바뀌므로 바로 반영하던 때와 보이는 결과는 같다.
+@Service
+public class TrendingService {
+    private static final long WRITE_WEIGHT = 10;
+    private static final long COMMENT_WEIGHT = 5;
+    private static final long VIEW_WEIGHT = 1;
+
+    private final PostRepository postRepository;
+    private final ObjectMapper objectMapper;
+    private final TrendingRanking ranking;
+    // ranking 은 refresh 와 글 삭제에서만 만진다. 가상 스레드 pinning 을 피하기 위해 synchronized 대신 사용
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ConcurrentHashMap<Integer, PendingWeight> pendingWeights = new ConcurrentHashMap<>();
+    // 삭제된 글 id -> 삭제 시각, 삭제 전에 시작한 요청(조회 등)의 이벤트가 늦게 들어와도 순위에 다시 넣지 않는다.
+    private final ConcurrentHashMap<Integer, Long> deletedAtByPostId = new ConcurrentHashMap<>();
+    private long previousRefreshMillis; // lock 안에서만
+
+    private volatile byte[] json;
+
+    public TrendingService(
+            PostRepository postRepository,
+            ObjectMapper objectMapper,
+            @Value("${custom.post.trending.size}") int size,
+            @Value("${custom.post.trending.halfLifeMinutes}") long halfLifeMinutes
+    ) {
+        this.postRepository = postRepository;
+        this.objectMapper = objectMapper;
+        this.ranking = new TrendingRanking(size, TimeUnit.MINUTES.toMillis(halfLifeMinutes), System.currentTimeMillis());
+        this.json = toJson(new PostTrendingDto(List.of(), LocalDateTime.now()));
+    }
+
+    // 글별로 아직 순위에 반영하지 않은 가중치, 조회가 몰리는 글도 LongAdder 라 경합하지 않는다.
+    private static class PendingWeight {
+        private final LongAdder weight = new LongAdder();
+        private volatile boolean removed;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public void onPostWritten(int postId) {
+        add(postId, WRITE_WEIGHT);
+    }
+
+    public void onCommentWritten(int postId) {
+        add(postId, COMMENT_WEIGHT);
+    }
+
+    public void onViewed(int postId) {
+        add(postId, VIEW_WEIGHT);
+    }
+
+    public void onPostDeleted(int postId) {
+        deletedAtByPostId.put(postId, System.currentTimeMillis()); // 이후의 add, 반영(fold)은 이 글을 건너뛴다.
+
+        PendingWeight pendingWeight = pendingWeights.remove(postId);
+        if (pendingWeight != null) pendingWeight.removed = true;
+
+        lock.lock();
+        try {
+            ranking.remove(postId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(int postId, long weight) {
+        while (true) {
+            if (deletedAtByPostId.containsKey(postId)) return;
+
+            PendingWeight pendingWeight = pendingWeights.get(postId);
+            if (pendingWeight == null) pendingWeight = pendingWeights.computeIfAbsent(postId, key -> new PendingWeight());
+
+            pendingWeight.weight.add(weight);
+
+            if (!pendingWeight.removed) return;
+
+            // 맵에서 빠지는 중이라 반영되지 않을 수 있으므로 되돌리고 다시 시도 (PostViewCounter.increase 와 같은 방식)
+            pendingWeight.weight.add(-weight);
+        }
+    }
+
+    // lock 안에서만 호출
+    private void foldPendingWeights(long nowMillis) {
+        pendingWeights.forEach((postId, pendingWeight) -> {
+            // 삭제를 확인하기 전에 add 를 시작해서 다시 생긴 항목
+            if (deletedAtByPostId.containsKey(postId)) {
+                pendingWeight.removed = true;
+                pendingWeights.remove(postId, pendingWeight);
+                return;
+            }
+
+            // 칸마다 getAndSet(0) 으로 비우므로 동시에 더해진 값은 이번이나 다음 반영 중 한 번만 들어간다.
+            long weight = pendingWeight.weight.sumThenReset();
+
+            if (weight != 0) {
+                ranking.add(postId, weight, nowMillis);
+                return;
+            }
+
+            // 한 주기 동안 이벤트가 없던 글은 맵에서 뺀다.
+            pendingWeights.computeIfPresent(postId, (key, current) -> {
+                current.removed = true;
+
+                if (current.weight.sum() != 0) {
+                    current.removed = false;
+                    return current;
+                }
+
+                return null;
+            });
+        });
+    }
+
+    // 모아 둔 이벤트를 반영하고 점수를 줄이고(decay) 상위 글의 최신 제목/작성자 등을 다시 읽어 응답을 교체한다.
+    @Scheduled(
+            initialDelayString = "${custom.post.trending.refreshIntervalMillis}",
+            fixedDelayString = "${custom.post.trending.refreshIntervalMillis}"
+    )
+    public void refresh() {
+        List<Integer> postIds;
+
+        lock.lock();
+        try {
+            long nowMillis = System.currentTimeMillis();
+
+            foldPendingWeights(nowMillis);
+            ranking.decay(nowMillis);
+            postIds = ranking.topPostIds();
+
+            // 이전 refresh 전에 삭제된 글은 한 주기 넘게 지났으므로, 그 사이 끝나지 않은 이벤트는 없다고 보고 잊는다.
+            long expireBeforeMillis = previousRefreshMillis;
+            deletedAtByPostId.values().removeIf(deletedAtMillis -> deletedAtMillis < expireBeforeMillis);
+            previousRefreshMillis = nowMillis;
+        } finally {
+            lock.unlock();
+        }
+
+        Map<Integer, PostDto> postDtosById = postIds.isEmpty() ? Map.of() : postRepository.findDtosByIdIn(postIds)
+                .stream()
+                .collect(Collectors.toMap(PostDto::id, Function.identity()));
+
+        List<PostDto> items = postIds
+                .stream()
+                .map(postDtosById::get)
+                .filter(Objects::nonNull) // 아직 커밋되지 않았거나 삭제된 글
+                .toList();
+
+        json = toJson(new PostTrendingDto(items, LocalDateTime.now()));
+    }
+
+    private byte[] toJson(PostTrendingDto postTrendingDto) {
+        try {
+            return objectMapper.writeValueAsBytes(postTrendingDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
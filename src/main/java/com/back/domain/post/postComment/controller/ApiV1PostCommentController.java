@@ -4,21 +4,29 @@ import com.back.domain.member.member.entity.Member;
 import com.back.domain.post.post.entity.Post;
 import com.back.domain.post.post.service.PostService;
 import com.back.domain.post.postComment.dto.PostCommentDto;
+import com.back.domain.post.postComment.dto.PostCommentPageDto;
 import com.back.domain.post.postComment.entity.PostComment;
+import com.back.domain.post.postComment.service.PostCommentStream;
 import com.back.global.exception.ServiceException;
 import com.back.global.rq.Rq;
+import com.back.global.rsData.MsgTemplate;
 import com.back.global.rsData.RsData;
+import com.back.global.webMvc.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
 @RestController
 @Validated
@@ -26,36 +34,55 @@ import java.util.List;
 @RequiredArgsConstructor
 @Tag(name = "ApiV1PostCommentController", description = "API 댓글 컨트롤러")
 public class ApiV1PostCommentController {
+    private static final MsgTemplate DELETE_MSG = MsgTemplate.of("%d번 댓글이 삭제되었습니다.");
+    private static final MsgTemplate MODIFY_MSG = MsgTemplate.of("%d번 댓글이 수정되었습니다.");
+    private static final MsgTemplate WRITE_MSG = MsgTemplate.of("%d번 댓글이 작성되었습니다.");
+
     private final PostService postService;
+    private final PostCommentStream postCommentStream;
     private final Rq rq;
 
     @GetMapping
     @Transactional(readOnly = true)
     @Operation(summary = "다건 조회")
-    public List<PostCommentDto> getItems(
-            @PathVariable int postId
+    public PostCommentPageDto getItems(
+            @PathVariable int postId,
+            @RequestParam(required = false) String after, // 이전 응답의 nextCursor
+            @RequestParam(required = false) String before, // 이전 응답의 prevCursor
+            @RequestParam(defaultValue = "${custom.postComment.defaultPageSize}") int pageSize,
+            WebRequest request
     ) {
         Post post = postService.findById(postId).get();
 
-        return post
-                .getComments()
-                .stream()
-                .map(PostCommentDto::new)
-                .toList();
+        if (request.checkNotModified(postService.findCommentPageEtag(post))) return null; // 304
+
+        return postService.findCommentPage(post, after, before, pageSize);
+    }
+
+    // 연결이 오래 유지되므로 트랜잭션을 걸지 않는다. 목록은 다건 조회로 받고 이후 변경분만 받는다.
+    @GetMapping(value = "/stream", produces = TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "작성/수정/삭제된 댓글 스트림 (SSE)", description = "이벤트 이름은 write, modify, delete")
+    public SseEmitter stream(@PathVariable int postId) {
+        postService.findById(postId).get();
+
+        return postCommentStream.subscribe(postId);
     }
 
     @GetMapping("/{id}")
     @Transactional(readOnly = true)
     @Operation(summary = "단건 조회")
-    public PostCommentDto getItem(
+    public ResponseEntity<PostCommentDto> getItem(
             @PathVariable int postId,
             @PathVariable int id
     ) {
-        Post post = postService.findById(postId).get();
-
-        PostComment postComment = post.findCommentById(id).get();
-
-        return new PostCommentDto(postComment);
+        PostComment postComment = postService.findCommentById(postId, id).get();
+        PostCommentDto postCommentDto = new PostCommentDto(postComment);
+
+        // 수정할 때 If-Match 로 보낼 ETag, If-None-Match 가 같으면 304
+        return ResponseEntity
+                .ok()
+                .eTag(ETags.versioned(postCommentDto.version(), postCommentDto))
+                .body(postCommentDto);
     }
 
     @DeleteMapping("/{id}")
@@ -67,18 +94,16 @@ public class ApiV1PostCommentController {
     ) {
         Member actor = rq.getActor();
 
-        Post post = postService.findById(postId).get();
-
-        PostComment postComment = post.findCommentById(id).get();
+        PostComment postComment = postService.findCommentById(postId, id).get();
 
         if (!actor.equals(postComment.getAuthor())) // 현재 사용자가 댓글 작성자와 일치하는지 확인
             throw new ServiceException("403-1", "댓글 삭제 권한이 없습니다.");
 
-        postService.deleteComment(post, postComment);
+        postService.deleteComment(postComment);
 
         return new RsData<>(
                 "200-1",
-                "%d번 댓글이 삭제되었습니다.".formatted(id)
+                DELETE_MSG.format(id)
         );
     }
 
@@ -92,25 +117,27 @@ public class ApiV1PostCommentController {
 
     @PutMapping("/{id}")
     @Transactional
-    @Operation(summary = "수정")
+    @Operation(summary = "수정", description = "If-Match 로 단건 조회의 ETag 를 보내면 그 사이에 수정된 댓글은 412 로 거절된다.")
     public RsData<Void> modify(
             @PathVariable int postId,
             @PathVariable int id,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody PostCommentModifyReqBody reqBody
     ) {
         Member actor = rq.getActor();
 
-        Post post = postService.findById(postId).get();
-
-        PostComment postComment = post.findCommentById(id).get();
+        PostComment postComment = postService.findCommentById(postId, id).get();
 
         if(!actor.equals(postComment.getAuthor())) throw new ServiceException("403-1", "댓글 수정 권한이 없습니다.");
 
+        if (!ETags.matchesVersion(ifMatch, postComment.getVersion()))
+            throw new ServiceException("412-1", "댓글이 다른 곳에서 수정되었습니다. 다시 조회한 뒤 수정해주세요.");
+
         postService.modifyComment(postComment, reqBody.content);
 
         return new RsData<>(
                 "200-1",
-                "%d번 댓글이 수정되었습니다.".formatted(id)
+                MODIFY_MSG.format(id)
         );
     }
 
@@ -133,14 +160,12 @@ public class ApiV1PostCommentController {
 
         Post post = postService.findById(postId).get();
 
+        // id 는 저장 시점에 시퀀스에서 미리 받아 두므로 INSERT 는 커밋 때 나가도 된다.
         PostComment postComment = postService.writeComment(actor, post, reqBody.content);
 
-        // 트랜잭션 끝난 후 수행되어야 하는 더티체킹 및 여러가지 작업들을 지금 당장 수행해라.
-        postService.flush();
-
         return new RsData<>(
                 "201-1",
-                "%d번 댓글이 작성되었습니다.".formatted(postComment.getId()),
+                WRITE_MSG.format(postComment.getId()),
                 new PostCommentDto(postComment)
         );
     }
@@ -0,0 +1,88 @@
+package com.back.domain.post.postComment.controller;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.post.postComment.dto.PostCommentImportJobDto;
+import com.back.domain.post.postComment.service.PostCommentImportService;
+import com.back.global.exception.ServiceException;
+import com.back.global.rq.Rq;
+import com.back.global.rsData.MsgTemplate;
+import com.back.global.rsData.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 배치마다 따로 커밋해야 하므로 @Transactional 을 붙이지 않는다.
+@RestController
+@RequestMapping("/api/v1/postCommentImports")
+@RequiredArgsConstructor
+@Tag(name = "ApiV1PostCommentImportController", description = "API 댓글 이관 컨트롤러")
+public class ApiV1PostCommentImportController {
+    private static final MsgTemplate IMPORT_MSG = MsgTemplate.of("%s 이관 작업이 %d번째 줄까지 처리되었습니다.");
+
+    private final PostCommentImportService postCommentImportService;
+    private final Rq rq;
+    private final HttpServletRequest request;
+
+    @Value("${custom.postCommentImport.dir}")
+    private String importDir;
+
+    @GetMapping("/{jobName}")
+    @Operation(summary = "이관 작업 진행 상황 조회")
+    public PostCommentImportJobDto getItem(@PathVariable String jobName) {
+        checkAdmin();
+
+        return postCommentImportService.findJob(jobName).get();
+    }
+
+    // 본문(NDJSON)을 그대로 스트리밍하거나, file 이 있으면 서버의 이관 디렉터리에 있는 파일을 읽는다.
+    // 중간에 실패해도 같은 jobName 으로 다시 호출하면 마지막 체크포인트 다음 줄부터 이어서 처리한다.
+    @PostMapping("/{jobName}")
+    @Operation(summary = "댓글 이관 (NDJSON)")
+    public RsData<PostCommentImportJobDto> importComments(
+            @PathVariable String jobName,
+            @RequestParam(required = false) String file
+    ) throws IOException {
+        checkAdmin();
+
+        PostCommentImportJobDto job;
+
+        if (file == null) {
+            job = postCommentImportService.importNdjson(jobName, request.getReader());
+        } else {
+            try (BufferedReader reader = Files.newBufferedReader(resolveImportFile(file), StandardCharsets.UTF_8)) {
+                job = postCommentImportService.importNdjson(jobName, reader);
+            }
+        }
+
+        return new RsData<>(
+                "200-1",
+                IMPORT_MSG.format(jobName, job.lastLine()),
+                job
+        );
+    }
+
+    private Path resolveImportFile(String file) {
+        Path dir = Path.of(importDir).toAbsolutePath().normalize();
+        Path path = dir.resolve(file).normalize();
+
+        if (!path.startsWith(dir) || !Files.isRegularFile(path))
+            throw new ServiceException("400-1", "이관 파일을 찾을 수 없습니다.");
+
+        return path;
+    }
+
+    private void checkAdmin() {
+        Member actor = rq.getActor();
+
+        if (!actor.isAdmin()) throw new ServiceException("403-1", "댓글 이관 권한이 없습니다.");
+    }
+}
@@ -11,17 +11,19 @@ public record PostCommentDto(
         int authorId,
         String authorName,
         int postId,
-        String content
+        String content,
+        long version // 수정할 때마다 1씩 증가
 ) {
     public PostCommentDto(PostComment postComment) {
         this(
                 postComment.getId(),
                 postComment.getCreateDate(),
                 postComment.getModifyDate(),
-                postComment.getAuthor().getId(),
-                postComment.getAuthor().getName(),
+                postComment.getAuthorId(),
+                postComment.getAuthorName(),
                 postComment.getPost().getId(),
-                postComment.getContent()
+                postComment.getContent(),
+                postComment.getVersion()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.back.domain.post.postComment.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+// PostDtoJsonSerializer 와 같은 방식, 필드를 추가하면 여기에도 추가해야 한다.
+@JsonComponent
+public class PostCommentDtoJsonSerializer extends JsonSerializer<PostCommentDto> {
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString CREATE_DATE = new SerializedString("createDate");
+    private static final SerializableString MODIFY_DATE = new SerializedString("modifyDate");
+    private static final SerializableString AUTHOR_ID = new SerializedString("authorId");
+    private static final SerializableString AUTHOR_NAME = new SerializedString("authorName");
+    private static final SerializableString POST_ID = new SerializedString("postId");
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    @Override
+    public void serialize(PostCommentDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        gen.writeNumber(value.id());
+        gen.writeFieldName(CREATE_DATE);
+        serializers.defaultSerializeValue(value.createDate(), gen);
+        gen.writeFieldName(MODIFY_DATE);
+        serializers.defaultSerializeValue(value.modifyDate(), gen);
+        gen.writeFieldName(AUTHOR_ID);
+        gen.writeNumber(value.authorId());
+        gen.writeFieldName(AUTHOR_NAME);
+        gen.writeString(value.authorName());
+        gen.writeFieldName(POST_ID);
+        gen.writeNumber(value.postId());
+        gen.writeFieldName(CONTENT);
+        gen.writeString(value.content());
+        gen.writeFieldName(VERSION);
+        gen.writeNumber(value.version());
+        gen.writeEndObject();
+    }
+
+    @Override
+    public Class<PostCommentDto> handledType() {
+        return PostCommentDto.class;
+    }
+}
@@ -0,0 +1,23 @@
+package com.back.domain.post.postComment.dto;
+
+import com.back.domain.post.postComment.entity.PostCommentImportJob;
+
+import java.time.LocalDateTime;
+
+public record PostCommentImportJobDto(
+        String name,
+        long lastLine,
+        long importedCount,
+        long failedCount,
+        LocalDateTime modifyDate
+) {
+    public PostCommentImportJobDto(PostCommentImportJob job) {
+        this(
+                job.getName(),
+                job.getLastLine(),
+                job.getImportedCount(),
+                job.getFailedCount(),
+                job.getModifyDate()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.back.domain.post.postComment.dto;
+
+import java.util.List;
+
+public record PostCommentPageDto(
+        int totalCount, // 글에 저장된 댓글 수 (COUNT 쿼리 없이 Post.commentsCount 사용)
+        List<PostCommentDto> items, // id 오름차순
+        String prevCursor, // before 로 넘기면 이전 페이지, 없으면 null
+        String nextCursor // after 로 넘기면 다음 페이지, 없으면 null
+) {
+}
@@ -0,0 +1,9 @@
+package com.back.domain.post.postComment.dto;
+
+// 댓글 스트림 이벤트의 data, 삭제된 경우 postComment 는 null
+public record PostCommentStreamDto(
+        int id,
+        int postId,
+        PostCommentDto postComment
+) {
+}
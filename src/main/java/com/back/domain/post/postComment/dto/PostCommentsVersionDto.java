@@ -0,0 +1,11 @@
+package com.back.domain.post.postComment.dto;
+
+import java.time.LocalDateTime;
+
+// 글의 댓글 목록 응답을 바꾸는 값, 작성/삭제는 개수로 수정은 수정 시각으로 드러난다. 조건부 조회(ETag)에 사용
+// 작성자 이름 변경은 AuthorNameSync.generation 으로 따로 확인
+public record PostCommentsVersionDto(
+        long count,
+        LocalDateTime maxModifyDate
+) {
+}
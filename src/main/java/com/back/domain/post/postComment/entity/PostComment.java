@@ -4,24 +4,39 @@ import com.back.domain.member.member.entity.Member;
 import com.back.domain.post.post.entity.Post;
 import com.back.global.jpa.entity.BaseEntity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ManyToOne;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import static jakarta.persistence.FetchType.LAZY;
+
 @Entity
 @Getter
 @NoArgsConstructor
 public class PostComment extends BaseEntity {
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     private Member author;
-    @ManyToOne
+    // Post 와 같이 작성자 id/이름을 함께 둔다. (AuthorNameSync)
+    @Column(name = "author_id", insertable = false, updatable = false)
+    private int authorId;
+    @Column(updatable = false)
+    private String authorName;
+    @ManyToOne(fetch = LAZY)
     @JsonIgnore
     private Post post;
     private String content;
 
     public PostComment(Member author, Post post, String content) {
+        this(author, author.getName(), post, content);
+    }
+
+    // author 가 프록시(getReferenceById)일 때 이름 때문에 회원을 조회하지 않도록 이름을 따로 받는다.
+    public PostComment(Member author, String authorName, Post post, String content) {
         this.author = author;
+        this.authorId = author.getId();
+        this.authorName = authorName;
         this.post = post;
         this.content = content;
     }
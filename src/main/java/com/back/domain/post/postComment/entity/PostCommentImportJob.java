@@ -0,0 +1,29 @@
+package com.back.domain.post.postComment.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 댓글 이관 작업의 진행 상황, 배치와 같은 트랜잭션에서 갱신되므로 재시작 시 여기서부터 이어서 처리
+@Entity
+@Getter
+@NoArgsConstructor
+public class PostCommentImportJob extends BaseEntity {
+    @Column(unique = true)
+    private String name;
+    private long lastLine; // 마지막으로 커밋된 줄 번호 (체크포인트)
+    private long importedCount;
+    private long failedCount;
+
+    public PostCommentImportJob(String name) {
+        this.name = name;
+    }
+
+    public void checkpoint(long lastLine, int importedCount, int failedCount) {
+        this.lastLine = lastLine;
+        this.importedCount += importedCount;
+        this.failedCount += failedCount;
+    }
+}
@@ -0,0 +1,14 @@
+package com.back.domain.post.postComment.event;
+
+import com.back.domain.post.postComment.entity.PostComment;
+
+// 댓글 작성/수정/삭제, 커밋된 뒤 댓글 스트림(SSE) 구독자에게 전달된다.
+// 수정 시각은 flush 때 채워지므로 DTO 는 커밋 후에 만든다.
+public record PostCommentChangedEvent(
+        Type type,
+        PostComment postComment
+) {
+    public enum Type {
+        WRITE, MODIFY, DELETE
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.domain.post.postComment.repository;
+
+import com.back.domain.post.postComment.entity.PostCommentImportJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PostCommentImportJobRepository extends JpaRepository<PostCommentImportJob, Integer> {
+    Optional<PostCommentImportJob> findByName(String name);
+
+    // 같은 작업을 동시에 돌려도 한쪽만 체크포인트를 진행시키도록 배치마다 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from PostCommentImportJob j where j.name = :name")
+    Optional<PostCommentImportJob> findByNameForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,57 @@
+package com.back.domain.post.postComment.repository;
+
+import com.back.domain.post.postComment.dto.PostCommentDto;
+import com.back.domain.post.postComment.dto.PostCommentsVersionDto;
+import com.back.domain.post.postComment.entity.PostComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PostCommentRepository extends JpaRepository<PostComment, Integer> {
+    Optional<PostComment> findByPostIdAndId(int postId, int id); // 글의 댓글 목록을 로딩하지 않고 한 건만 조회
+
+    @Query("""
+            select new com.back.domain.post.postComment.dto.PostCommentsVersionDto(
+                count(c), max(c.modifyDate)
+            )
+            from PostComment c
+            where c.post.id = :postId
+            """)
+    PostCommentsVersionDto findVersionByPostId(@Param("postId") int postId);
+
+    // 다음 페이지 (id 오름차순)
+    @Query("""
+            select new com.back.domain.post.postComment.dto.PostCommentDto(
+                c.id, c.createDate, c.modifyDate, c.authorId, c.authorName, c.post.id, c.content, c.version
+            )
+            from PostComment c
+            where c.post.id = :postId
+            and c.id > :afterId
+            order by c.id asc
+            """)
+    List<PostCommentDto> findDtosByPostIdAndIdGreaterThan(
+            @Param("postId") int postId,
+            @Param("afterId") int afterId,
+            Pageable pageable
+    );
+
+    // 이전 페이지 (id 내림차순, 호출하는 쪽에서 뒤집어서 사용)
+    @Query("""
+            select new com.back.domain.post.postComment.dto.PostCommentDto(
+                c.id, c.createDate, c.modifyDate, c.authorId, c.authorName, c.post.id, c.content, c.version
+            )
+            from PostComment c
+            where c.post.id = :postId
+            and c.id < :beforeId
+            order by c.id desc
+            """)
+    List<PostCommentDto> findDtosByPostIdAndIdLessThan(
+            @Param("postId") int postId,
+            @Param("beforeId") int beforeId,
+            Pageable pageable
+    );
+}
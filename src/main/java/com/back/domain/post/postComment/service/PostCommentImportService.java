@@ -0,0 +1,203 @@
+package com.back.domain.post.postComment.service;
+
+import com.back.domain.member.member.dto.MemberNameDto;
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.repository.PostRepository;
+import com.back.domain.post.post.service.AuthorNameSync;
+import com.back.domain.post.post.service.PostCommentsCounter;
+import com.back.domain.post.postComment.dto.PostCommentImportJobDto;
+import com.back.domain.post.postComment.entity.PostComment;
+import com.back.domain.post.postComment.entity.PostCommentImportJob;
+import com.back.domain.post.postComment.repository.PostCommentImportJobRepository;
+import com.back.domain.post.postComment.repository.PostCommentRepository;
+import com.back.global.exception.ServiceException;
+import com.back.global.transaction.TransactionHooks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 기존 게시판 댓글 이관, NDJSON 한 줄 = {"postId": 1, "authorId": 3, "content": "..."}
+// 파일 전체를 메모리에 올리지 않고 batchSize 줄씩 글 단위로 묶어 트랜잭션 하나로 저장한다.
+@Slf4j
+@Service
+public class PostCommentImportService {
+    private final PostRepository postRepository;
+    private final PostCommentsCounter postCommentsCounter;
+    private final AuthorNameSync authorNameSync;
+    private final PostCommentRepository postCommentRepository;
+    private final PostCommentImportJobRepository postCommentImportJobRepository;
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PostCommentImportService(
+            PostRepository postRepository,
+            PostCommentsCounter postCommentsCounter,
+            AuthorNameSync authorNameSync,
+            PostCommentRepository postCommentRepository,
+            PostCommentImportJobRepository postCommentImportJobRepository,
+            MemberRepository memberRepository,
+            ObjectMapper objectMapper,
+            EntityManager em,
+            PlatformTransactionManager transactionManager,
+            @Value("${custom.postCommentImport.batchSize}") int batchSize
+    ) {
+        this.postRepository = postRepository;
+        this.postCommentsCounter = postCommentsCounter;
+        this.authorNameSync = authorNameSync;
+        this.postCommentRepository = postCommentRepository;
+        this.postCommentImportJobRepository = postCommentImportJobRepository;
+        this.memberRepository = memberRepository;
+        this.objectMapper = objectMapper;
+        this.em = em;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    record ImportLine(Integer postId, Integer authorId, String content) {
+    }
+
+    private record NumberedLine(long lineNumber, String line) {
+    }
+
+    public Optional<PostCommentImportJobDto> findJob(String jobName) {
+        return postCommentImportJobRepository.findByName(jobName).map(PostCommentImportJobDto::new);
+    }
+
+    // 트랜잭션 없이 호출해야 배치마다 커밋된다.
+    public PostCommentImportJobDto importNdjson(String jobName, BufferedReader reader) {
+        long checkpoint = transactionTemplate.execute(status ->
+                postCommentImportJobRepository.findByName(jobName)
+                        .orElseGet(() -> postCommentImportJobRepository.save(new PostCommentImportJob(jobName)))
+                        .getLastLine()
+        );
+
+        if (checkpoint > 0) log.info("[{}] {}번째 줄 이후부터 이어서 처리", jobName, checkpoint);
+
+        List<NumberedLine> batch = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= checkpoint) continue; // 이미 커밋된 줄
+
+                batch.add(new NumberedLine(lineNumber, line));
+
+                if (batch.size() == batchSize) {
+                    checkpoint = commitBatch(jobName, checkpoint, batch);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!batch.isEmpty()) commitBatch(jobName, checkpoint, batch);
+
+        return findJob(jobName).get();
+    }
+
+    private long commitBatch(String jobName, long expectedCheckpoint, List<NumberedLine> batch) {
+        PostCommentImportJob job = transactionTemplate.execute(status -> {
+            PostCommentImportJob lockedJob = postCommentImportJobRepository.findByNameForUpdate(jobName).get();
+
+            if (lockedJob.getLastLine() != expectedCheckpoint)
+                throw new ServiceException("409-1", "같은 이관 작업이 다른 곳에서 진행 중입니다.");
+
+            int importedCount = saveComments(batch);
+            lockedJob.checkpoint(batch.getLast().lineNumber(), importedCount, batch.size() - importedCount);
+
+            em.flush();
+
+            return lockedJob;
+        });
+
+        // OSIV 로 요청 내내 같은 영속성 컨텍스트를 쓰므로 배치마다 비워서 메모리를 일정하게 유지
+        em.clear();
+
+        log.info(
+                "[{}] {}번째 줄까지 커밋 (누적 성공 {}, 실패 {})",
+                jobName, job.getLastLine(), job.getImportedCount(), job.getFailedCount()
+        );
+
+        return job.getLastLine();
+    }
+
+    // 저장한 댓글 수를 반환, 잘못된 줄은 건너뛴다.
+    private int saveComments(List<NumberedLine> batch) {
+        Map<Integer, List<ImportLine>> linesByPostId = new LinkedHashMap<>();
+
+        for (NumberedLine numberedLine : batch) {
+            ImportLine line = parse(numberedLine);
+            if (line != null) linesByPostId.computeIfAbsent(line.postId(), key -> new ArrayList<>()).add(line);
+        }
+
+        if (linesByPostId.isEmpty()) return 0;
+
+        Set<Integer> postIds = new HashSet<>(postRepository.findIdsByIdIn(linesByPostId.keySet()));
+        // 댓글에 저장할 작성자 이름도 같이 조회해서 회원을 한 명씩 로딩하지 않는다.
+        Map<Integer, String> authorNames = memberRepository.findNamesByIdIn(
+                        linesByPostId.values().stream().flatMap(List::stream).map(ImportLine::authorId).distinct().toList()
+                )
+                .stream()
+                .collect(Collectors.toMap(MemberNameDto::id, MemberNameDto::name));
+
+        Map<Integer, Integer> importedCountByPostId = new LinkedHashMap<>();
+        List<PostComment> postComments = new ArrayList<>();
+
+        linesByPostId.forEach((postId, lines) -> {
+            if (!postIds.contains(postId)) return;
+
+            Post post = postRepository.getReferenceById(postId); // 조회 없이 FK 만 사용
+
+            for (ImportLine line : lines) {
+                if (!authorNames.containsKey(line.authorId())) continue;
+
+                Member author = memberRepository.getReferenceById(line.authorId());
+                postComments.add(new PostComment(author, authorNames.get(line.authorId()), post, line.content()));
+                importedCountByPostId.merge(postId, 1, Integer::sum);
+            }
+        });
+
+        // 댓글 INSERT 는 JDBC 배치로 묶이고, 카운터는 댓글마다가 아니라 글마다 한 번만 갱신
+        postCommentRepository.saveAll(postComments);
+        postCommentsCounter.increaseAll(importedCountByPostId);
+        // 이름을 읽은 뒤에 닉네임이 바뀌었을 수 있으므로 커밋된 뒤 확인
+        TransactionHooks.afterCommit(() -> authorNames.forEach(authorNameSync::onAuthorNameWritten));
+
+        return postComments.size();
+    }
+
+    private ImportLine parse(NumberedLine numberedLine) {
+        try {
+            ImportLine line = objectMapper.readValue(numberedLine.line(), ImportLine.class);
+
+            // 작성 API 와 같은 규칙 (PostCommentWriteReqBody)
+            if (line.postId() == null || line.authorId() == null) return null;
+            if (line.content() == null || line.content().isBlank()) return null;
+            if (line.content().length() < 2 || line.content().length() > 100) return null;
+
+            return line;
+        } catch (IOException e) {
+            log.debug("{}번째 줄을 읽을 수 없습니다: {}", numberedLine.lineNumber(), e.getMessage());
+
+            return null;
+        }
+    }
+}
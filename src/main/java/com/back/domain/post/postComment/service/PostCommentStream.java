@@ -0,0 +1,186 @@
+package com.back.domain.post.postComment.service;
+
+import com.back.domain.post.postComment.dto.PostCommentDto;
+import com.back.domain.post.postComment.dto.PostCommentStreamDto;
+import com.back.domain.post.postComment.entity.PostComment;
+import com.back.domain.post.postComment.event.PostCommentChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 글별 댓글 변경 스트림(SSE)
+// 구독자마다 크기가 정해진 큐와 가상 스레드 하나를 두고, 전송은 그 스레드만 한다.
+// 발행하는 쪽은 큐에 넣기만 하므로 느린 구독자가 있어도 다른 구독자나 커밋 스레드가 기다리지 않고,
+// 큐가 가득 찬(따라오지 못하는) 구독자는 연결을 끊는다. 클라이언트는 다시 연결해서 목록을 새로 받으면 된다.
+@Slf4j
+@Component
+public class PostCommentStream {
+    private static final Message HEARTBEAT = new Message(null, null, null);
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int queueSize;
+    private final ThreadFactory senderThreadFactory;
+    private final ConcurrentHashMap<Integer, Set<Subscriber>> subscribersByPostId = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PostCommentStream(
+            ObjectMapper objectMapper,
+            @Value("${custom.postComment.stream.timeoutMillis}") long timeoutMillis,
+            @Value("${custom.postComment.stream.queueSize}") int queueSize
+    ) {
+        // 대기 중인 가상 스레드는 힙에 스택만 남으므로 구독자가 수만 명이어도 플랫폼 스레드를 점유하지 않는다.
+        this(objectMapper, timeoutMillis, queueSize, Thread.ofVirtual().name("post-comment-stream-", 0).factory());
+    }
+
+    // 전송 스레드를 바꿔서 느린 구독자를 재현할 때 사용
+    public PostCommentStream(ObjectMapper objectMapper, long timeoutMillis, int queueSize, ThreadFactory senderThreadFactory) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.queueSize = queueSize;
+        this.senderThreadFactory = senderThreadFactory;
+    }
+
+    // JSON 은 발행할 때 한 번만 만들고 모든 구독자가 같은 문자열을 보낸다.
+    private record Message(String name, String id, String json) {
+    }
+
+    private class Subscriber {
+        private final int postId;
+        private final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueSize);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread sender;
+
+        private Subscriber(int postId) {
+            this.postId = postId;
+        }
+
+        private boolean offer(Message message) {
+            return queue.offer(message);
+        }
+
+        // 큐에 종료 신호를 넣는 방식은 전송 스레드가 emitter.send 에서 막혀 있으면 읽히지 않으므로 직접 끝낸다.
+        // completeEmitter: 컨테이너가 이미 끝낸 연결(onCompletion/onError)이면 false
+        private void close(boolean completeEmitter) {
+            if (!closed.compareAndSet(false, true)) return;
+
+            remove(this);
+            queue.clear();
+
+            Thread sender = this.sender;
+            if (sender != null) sender.interrupt(); // take() 대기 또는 막힌 send 를 깨운다.
+
+            // 진행 중인 send 가 emitter 의 쓰기 락을 잡고 있으면 complete 도 기다리므로, 발행 스레드가 막히지 않도록 따로 실행
+            // 연결이 끝나면 막혀 있던 send 도 실패하고 전송 스레드가 끝난다.
+            if (completeEmitter) Thread.ofVirtual().name("post-comment-stream-close").start(emitter::complete);
+        }
+
+        private void run() {
+            try {
+                while (!closed.get()) {
+                    Message message = queue.take();
+
+                    if (message == HEARTBEAT) emitter.send(SseEmitter.event().comment("heartbeat"));
+                    else emitter.send(SseEmitter.event().name(message.name()).id(message.id()).data(message.json()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // close() 가 깨운 것
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊음, 컨테이너가 emitter 의 onError/onCompletion 을 호출한다.
+            } finally {
+                close(false);
+            }
+        }
+    }
+
+    public SseEmitter subscribe(int postId) {
+        Subscriber subscriber = new Subscriber(postId);
+
+        subscriber.emitter.onCompletion(() -> subscriber.close(false));
+        subscriber.emitter.onTimeout(() -> { // 컨테이너 스레드에서 호출되므로 바로 끝낸다.
+            subscriber.close(false);
+            subscriber.emitter.complete();
+        });
+        subscriber.emitter.onError(e -> subscriber.close(false));
+
+        // close() 가 언제 불려도 깨울 수 있도록 구독자로 등록하기 전에 전송 스레드를 정해 둔다.
+        Thread sender = senderThreadFactory.newThread(subscriber::run);
+        subscriber.sender = sender;
+
+        // remove 에서 빈 집합을 지우는 것과 겹치지 않도록 compute 안에서 추가
+        subscribersByPostId.compute(postId, (key, subscribers) -> {
+            if (subscribers == null) subscribers = ConcurrentHashMap.newKeySet();
+            subscribers.add(subscriber);
+            return subscribers;
+        });
+
+        sender.start();
+
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener
+    public void handle(PostCommentChangedEvent event) {
+        PostComment postComment = event.postComment();
+        int postId = postComment.getPost().getId();
+
+        Set<Subscriber> subscribers = subscribersByPostId.get(postId);
+        if (subscribers == null || subscribers.isEmpty()) return;
+
+        PostCommentDto postCommentDto = event.type() == PostCommentChangedEvent.Type.DELETE ? null : new PostCommentDto(postComment);
+        Message message = new Message(
+                event.type().name().toLowerCase(),
+                String.valueOf(postComment.getId()),
+                toJson(new PostCommentStreamDto(postComment.getId(), postId, postCommentDto))
+        );
+
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(message)) {
+                log.debug("{}번 글 댓글 스트림, 느린 구독자 연결 종료", postId);
+                subscriber.close(true);
+            }
+        }
+    }
+
+    // 보낼 것이 없어도 주기적으로 보내서 프록시의 유휴 연결 종료를 막고, 끊긴 연결은 전송 실패로 정리한다.
+    @Scheduled(fixedRateString = "${custom.postComment.stream.heartbeatIntervalMillis}")
+    public void heartbeat() {
+        subscribersByPostId.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    public int subscribersCount(int postId) {
+        Set<Subscriber> subscribers = subscribersByPostId.get(postId);
+
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByPostId.computeIfPresent(subscriber.postId, (postId, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private String toJson(PostCommentStreamDto postCommentStreamDto) {
+        try {
+            return objectMapper.writeValueAsString(postCommentStreamDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
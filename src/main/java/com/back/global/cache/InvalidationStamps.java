@@ -0,0 +1,29 @@
+package com.back.global.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 캐시 키별 무효화 횟수, 락 밖에서 DB 를 읽어 put 하는 캐시가 그 사이의 무효화를 되살리지 않도록 확인하는 데 사용
+// 키마다 두지 않고 해시로 나눈 칸(stripe)에 세므로 메모리는 일정하다. 같은 칸의 다른 키가 무효화되면 적재를 한 번 버릴 뿐이다.
+//
+// 적재: before = stamp(key) -> DB 조회 -> put -> stamp(key) != before 이면 invalidate
+// 무효화: invalidate(key) -> cache.invalidate(key)
+// put 뒤에 확인하므로 무효화가 어느 시점에 끼어들어도 둘 중 하나가 값을 지운다.
+public class InvalidationStamps {
+    private static final int STRIPES = 256;
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+
+    public long stamp(Object key) {
+        return stamps.get(index(key));
+    }
+
+    public void invalidate(Object key) {
+        stamps.incrementAndGet(index(key));
+    }
+
+    private static int index(Object key) {
+        int h = key.hashCode();
+
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+}
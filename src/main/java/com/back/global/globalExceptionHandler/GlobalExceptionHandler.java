@@ -5,6 +5,7 @@ import com.back.global.rsData.RsData;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -19,6 +20,7 @@ import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @RestControllerAdvice // 모든 컨트롤러에서 발생하는 예외를 처리하는 어드바이스 클래스, ControllerAdvice + ResponseBody
@@ -35,6 +37,18 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // 같은 엔티티를 동시에 수정해서 @Version 검사에 걸린 경우, 보통 커밋 시점에 발생합니다.
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<RsData<Void>> handle(OptimisticLockingFailureException ex) {
+        return new ResponseEntity<>(
+                new RsData<>(
+                        "409-1",
+                        "다른 요청이 먼저 수정했습니다. 다시 조회한 뒤 수정해주세요."
+                ),
+                CONFLICT
+        );
+    }
+
     // 유효성 검사 실패 시 발생하는 예외를 처리합니다.
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<RsData<Void>> handle(ConstraintViolationException ex) {
@@ -55,11 +55,11 @@ public class BaseInitData {
         Post post2 = postService.write(memberUser1, "제목 2", "내용 2");
         Post post3 = postService.write(memberUser2, "제목 3", "내용 3");
 
-        post1.addComment(memberUser1, "댓글 1-1");
-        post1.addComment(memberUser1, "댓글 1-2");
-        post1.addComment(memberUser2, "댓글 1-3");
-        post2.addComment(memberUser3, "댓글 2-1");
-        post2.addComment(memberUser3, "댓글 2-2");
+        postService.writeComment(memberUser1, post1, "댓글 1-1");
+        postService.writeComment(memberUser1, post1, "댓글 1-2");
+        postService.writeComment(memberUser2, post1, "댓글 1-3");
+        postService.writeComment(memberUser3, post2, "댓글 2-1");
+        postService.writeComment(memberUser3, post2, "댓글 2-2");
     }
 
     @Transactional
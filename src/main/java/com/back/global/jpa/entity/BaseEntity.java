@@ -4,7 +4,11 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,14 +16,16 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
+import static lombok.AccessLevel.PROTECTED;
 
 @MappedSuperclass // 엔티티의 부모 클래스에는 이걸 달아야 한다.
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 public abstract class BaseEntity {
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE) // 엔티티별 시퀀스를 50개씩 미리 할당(pooled), IDENTITY 와 달리 INSERT 를 JDBC 배치로 묶을 수 있다.
+    @Setter(PROTECTED) // 이미 저장된 엔티티의 스냅샷을 만들 때만 사용
     private int id;
 
     @CreatedDate
@@ -28,12 +34,19 @@ public abstract class BaseEntity {
     @LastModifiedDate
     private LocalDateTime modifyDate;
 
+    // 낙관적 락, 수정된 엔티티를 flush 할 때 버전이 다르면(다른 트랜잭션이 먼저 수정) 예외가 난다.
+    // JPQL/JDBC 로 직접 바꾸는 카운터(commentsCount, viewsCount)는 버전을 올리지 않는다.
+    @Version
+    @ColumnDefault("0") // ddl-auto: update 로 기존 행에 컬럼이 추가될 때의 값
+    private long version;
+
     @Override
     public boolean equals(Object o) {
         if (o == this) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        // LAZY 연관관계는 프록시로 들어오므로 실제 엔티티 클래스와 getter 로 비교
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) return false;
         BaseEntity that = (BaseEntity) o;
-        return id == that.id;
+        return getId() == that.getId();
     }
 
     @Override
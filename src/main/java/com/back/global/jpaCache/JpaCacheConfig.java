@@ -0,0 +1,71 @@
+package com.back.global.jpaCache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+// Hibernate 2차 캐시, 외부 서버 없이 JCache 로 Caffeine 을 사용한다.
+// 영역(region)별 크기와 만료 시간은 프로필별 application-*.yml 의 custom.jpaCache 에서 바꾼다.
+@Configuration
+public class JpaCacheConfig {
+    public static final String MEMBER_REGION = "member";
+    public static final String MEMBER_QUERY_REGION = "member-query";
+    public static final String POST_REGION = "post";
+
+    @Value("${custom.jpaCache.statisticsEnabled}")
+    private boolean statisticsEnabled;
+    @Value("${custom.jpaCache.member.maxSize}")
+    private long memberMaxSize;
+    @Value("${custom.jpaCache.member.ttlSeconds}")
+    private long memberTtlSeconds;
+    @Value("${custom.jpaCache.memberQuery.maxSize}")
+    private long memberQueryMaxSize;
+    @Value("${custom.jpaCache.memberQuery.ttlSeconds}")
+    private long memberQueryTtlSeconds;
+    @Value("${custom.jpaCache.post.maxSize}")
+    private long postMaxSize;
+    @Value("${custom.jpaCache.post.ttlSeconds}")
+    private long postTtlSeconds;
+
+    @Bean
+    public CacheManager jpaCacheManager() {
+        CacheManager cacheManager = Caching
+                .getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        createCache(cacheManager, MEMBER_REGION, memberMaxSize, memberTtlSeconds);
+        createCache(cacheManager, MEMBER_QUERY_REGION, memberQueryMaxSize, memberQueryTtlSeconds);
+        createCache(cacheManager, POST_REGION, postMaxSize, postTtlSeconds);
+        // 쿼리 캐시가 쓰는 기본 영역, 테이블 변경 시각(timestamps)은 만료되면 오래된 쿼리 결과를 돌려줄 수 있어서 제한 없이 둔다.
+        createCache(cacheManager, "default-query-results-region", memberQueryMaxSize, memberQueryTtlSeconds);
+        createCache(cacheManager, "default-update-timestamps-region", 0, 0);
+
+        return cacheManager;
+    }
+
+    // 기본 CacheManager 는 JVM 안에서 공유되므로(테스트 컨텍스트 여러 개) 이미 있으면 그대로 쓴다.
+    private void createCache(CacheManager cacheManager, String region, long maxSize, long ttlSeconds) {
+        if (cacheManager.getCache(region) != null) return;
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxSize > 0) configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttlSeconds > 0) configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        configuration.setStatisticsEnabled(statisticsEnabled);
+
+        cacheManager.createCache(region, configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaCacheHibernatePropertiesCustomizer(CacheManager jpaCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, jpaCacheManager);
+    }
+}
@@ -0,0 +1,57 @@
+package com.back.global.metrics;
+
+import com.back.global.rsData.RsData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// 응답 RsData 의 resultCode 별 카운터 (api.results{resultCode="201-1"})
+// ResponseEntity<RsData> 로 내려가는 예외 응답도 세기 위해 반환 타입이 아니라 실제 바디로 판단한다.
+@RestControllerAdvice
+public class RsDataMetricsResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+    private final MeterRegistry meterRegistry;
+    // resultCode 종류는 코드에 정해진 만큼이라 태그 수가 늘어나지 않는다. 요청마다 레지스트리를 찾지 않도록 보관
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RsDataMetricsResponseBodyAdvice(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (body instanceof RsData<?> rsData) counterOf(rsData.resultCode()).increment();
+
+        return body;
+    }
+
+    private Counter counterOf(String resultCode) {
+        Counter counter = counters.get(resultCode);
+        if (counter != null) return counter;
+
+        return counters.computeIfAbsent(resultCode, key -> Counter
+                .builder("api.results")
+                .description("resultCode 별 응답 수")
+                .tag("resultCode", key)
+                .register(meterRegistry));
+    }
+}
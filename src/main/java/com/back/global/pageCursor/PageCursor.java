@@ -0,0 +1,29 @@
+package com.back.global.pageCursor;
+
+import com.back.global.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 키셋 페이징용 커서, 클라이언트에게는 내부 id가 드러나지 않는 불투명 문자열로 전달
+public class PageCursor {
+    private static final String PREFIX = "id:";
+
+    public static String encode(int id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (!decoded.startsWith(PREFIX)) throw new IllegalArgumentException(decoded);
+
+            return Integer.parseInt(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new ServiceException("400-1", "커서 형식이 올바르지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.back.global.rateLimit;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberService;
+import com.back.global.exception.ServiceException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Optional;
+
+// 쓰기 요청(POST, PUT, PATCH, DELETE)을 회원별로 제한한다.
+// 헤더 문자열을 그대로 키로 쓰면 아무 값이나 보내 버킷을 새로 받거나 다른 회원의 버킷을 밀어낼 수 있으므로,
+// 회원을 확인한 뒤 회원 id 로 버킷을 고른다.
+// 인증 캐시에 없는 키(처음 보는 키, 잘못된 키)는 DB 를 조회하기 전에 IP 별 버킷(unknownKeyRateLimiter)에서 먼저 꺼낸다.
+// IP 는 request.getRemoteAddr(), 프록시 뒤에서는 server.forward-headers-strategy: native 로 Tomcat 이 X-Forwarded-For 의 클라이언트 주소로 바꿔 준다.
+// 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies, 기본값은 사설/루프백 대역)에서 온 요청의 헤더만 쓰므로,
+// 프록시가 그 대역 밖에 있으면 주소를 맞춰 주어야 한다. 그러지 않으면 모든 클라이언트가 프록시 IP 버킷 하나를 나눠 쓴다.
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final MemberService memberService;
+    private final RateLimiter rateLimiter;
+    private final RateLimiter unknownKeyRateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!isWrite(request.getMethod())) return true;
+
+        String headerAuthorization = request.getHeader("Authorization");
+
+        // 헤더가 없거나 형식이 잘못된 요청은 Rq 에서 401 로 처리 (DB 를 조회하지 않는다.)
+        if (headerAuthorization == null || !headerAuthorization.startsWith("Bearer ")) return true;
+
+        String apiKey = headerAuthorization.substring("Bearer ".length()).trim();
+
+        Optional<Member> actor = memberService.findCachedActorByApiKey(apiKey);
+
+        if (actor.isEmpty()) {
+            if (!unknownKeyRateLimiter.tryAcquire(request.getRemoteAddr())) throw tooManyRequests();
+
+            actor = memberService.findActorByApiKey(apiKey);
+
+            // 잘못된 키는 Rq 에서 401 로 처리
+            if (actor.isEmpty()) return true;
+        }
+
+        if (!rateLimiter.tryAcquire(String.valueOf(actor.get().getId()))) throw tooManyRequests();
+
+        return true;
+    }
+
+    private static ServiceException tooManyRequests() {
+        return new ServiceException("429-1", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private static boolean isWrite(String method) {
+        return switch (method) {
+            case "POST", "PUT", "PATCH", "DELETE" -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.back.global.rateLimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+// 키(회원 id, IP)별 토큰 버킷, 한동안 요청이 없던 버킷은 캐시에서 빠진다.
+// 버킷을 다시 만들면 가득 찬 상태로 시작하므로 idle 시간은 버킷이 가득 차는 시간보다 길게 잡는다.
+public class RateLimiter {
+    private final int capacity;
+    private final int refillPerSecond;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(int capacity, int refillPerSecond, long maxBuckets, long idleSeconds) {
+        if (capacity < 1 || capacity > TokenBucket.MAX_CAPACITY)
+            throw new IllegalArgumentException("capacity 는 1 ~ %d 사이여야 합니다: %d".formatted(TokenBucket.MAX_CAPACITY, capacity));
+        if (refillPerSecond < 1)
+            throw new IllegalArgumentException("refillPerSecond 는 1 이상이어야 합니다: " + refillPerSecond);
+
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+    }
+
+    public boolean tryAcquire(String key) {
+        long nowMillis = TokenBucket.nowMillis();
+
+        TokenBucket bucket = buckets.getIfPresent(key);
+        // 버킷 생성은 블로킹 작업이 없어서 캐시 락 안에서 만들어도 된다.
+        if (bucket == null) bucket = buckets.get(key, k -> new TokenBucket(capacity, refillPerSecond, nowMillis));
+
+        return bucket.tryAcquire(nowMillis);
+    }
+}
@@ -0,0 +1,49 @@
+package com.back.global.rateLimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 남은 토큰과 마지막 충전 시각을 long 하나에 담아 CAS 로만 갱신한다. (락 없음)
+// 상위 44비트: 마지막 충전 시각(ms), 하위 20비트: 남은 토큰 x 1000
+// 토큰을 1/1000 단위로 세면 "초당 충전량" 이 그대로 "ms 당 충전량" 이 되어 나눗셈 없이 충전할 수 있다.
+class TokenBucket {
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long ONE_TOKEN = 1000;
+    static final int MAX_CAPACITY = (int) (TOKEN_MASK / ONE_TOKEN);
+
+    private static final long BASE_NANOS = System.nanoTime();
+
+    private final long capacity; // x 1000
+    private final long refillPerMillis; // x 1000
+    private final AtomicLong state;
+
+    TokenBucket(int capacity, int refillPerSecond, long nowMillis) {
+        this.capacity = capacity * ONE_TOKEN;
+        this.refillPerMillis = refillPerSecond;
+        this.state = new AtomicLong((nowMillis << TOKEN_BITS) | this.capacity); // 처음엔 가득 찬 상태
+    }
+
+    static long nowMillis() {
+        return (System.nanoTime() - BASE_NANOS) / 1_000_000;
+    }
+
+    boolean tryAcquire(long nowMillis) {
+        while (true) {
+            long current = state.get();
+            long lastMillis = current >>> TOKEN_BITS;
+            long tokens = current & TOKEN_MASK;
+
+            if (nowMillis > lastMillis) {
+                long elapsed = nowMillis - lastMillis;
+                // refillPerMillis >= 1 이므로 elapsed 가 capacity 이상이면 곱하지 않아도 가득 찬다. (오버플로 방지)
+                tokens = elapsed >= capacity ? capacity : Math.min(capacity, tokens + elapsed * refillPerMillis);
+                lastMillis = nowMillis;
+            }
+
+            // 실패할 때는 상태를 바꾸지 않아야 1토큰 미만으로 쌓인 양이 버려지지 않는다.
+            if (tokens < ONE_TOKEN) return false;
+
+            if (state.compareAndSet(current, (lastMillis << TOKEN_BITS) | (tokens - ONE_TOKEN))) return true;
+        }
+    }
+}
@@ -25,7 +25,7 @@ public class Rq {
         String apiKey = headerAuthorization.substring("Bearer ".length()).trim(); // Bearer 접두사를 제거하고 공백을 제거한 API 키를 추출
 
         Member member = memberService // API 키로 회원을 조회
-                .findByApiKey(apiKey) // findByApiKey 메서드를 사용하여 API 키로 회원을 조회
+                .findActorByApiKey(apiKey) // 캐시에 없을 때만 DB 에서 API 키로 회원을 조회
                 .orElseThrow(() -> new ServiceException("401-3", "API 키가 유효하지 않습니다.")); // 조회된 회원이 없으면 예외 발생
 
         return member; // 유효한 API 키로 회원을 조회하여 반환
@@ -0,0 +1,68 @@
+package com.back.global.rsData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// "%d번 글이 작성되었습니다." 같은 응답 메시지 템플릿을 미리 쪼개 두고 이어 붙이기만 한다.
+// String.formatted 는 호출마다 형식 문자열을 다시 파싱하므로 자주 쓰는 메시지는 이걸 사용
+// %d, %s 만 지원하며 인자는 순서대로 들어간다.
+public class MsgTemplate {
+    private final String[] parts; // 자리표시자 사이의 고정 문자열, 항상 자리표시자 수 + 1 개
+    private final int fixedLength;
+
+    private MsgTemplate(String[] parts) {
+        this.parts = parts;
+
+        int fixedLength = 0;
+        for (String part : parts) fixedLength += part.length();
+        this.fixedLength = fixedLength;
+    }
+
+    public static MsgTemplate of(String template) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+
+        for (int i = 0; i < template.length(); i++) {
+            if (template.charAt(i) != '%') continue;
+
+            char type = i + 1 < template.length() ? template.charAt(i + 1) : 0;
+            if (type != 'd' && type != 's')
+                throw new IllegalArgumentException("%d, %s 만 사용할 수 있습니다: " + template);
+
+            parts.add(template.substring(start, i));
+            start = i + 2;
+            i++;
+        }
+
+        parts.add(template.substring(start));
+
+        return new MsgTemplate(parts.toArray(String[]::new));
+    }
+
+    public String format(int arg) {
+        checkArgsCount(1);
+
+        return new StringBuilder(fixedLength + 11)
+                .append(parts[0])
+                .append(arg)
+                .append(parts[1])
+                .toString();
+    }
+
+    public String format(Object... args) {
+        checkArgsCount(args.length);
+
+        StringBuilder sb = new StringBuilder(fixedLength + args.length * 16);
+
+        for (int i = 0; i < args.length; i++) {
+            sb.append(parts[i]).append(args[i]);
+        }
+
+        return sb.append(parts[args.length]).toString();
+    }
+
+    private void checkArgsCount(int argsCount) {
+        if (argsCount != parts.length - 1)
+            throw new IllegalArgumentException("인자 수가 맞지 않습니다. 필요: %d, 전달: %d".formatted(parts.length - 1, argsCount));
+    }
+}
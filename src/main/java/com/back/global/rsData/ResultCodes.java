@@ -0,0 +1,40 @@
+package com.back.global.rsData;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// resultCode("201-1") -> HTTP 상태 코드(201), 응답마다 split/parseInt 하지 않도록 한 번만 계산해서 보관
+public class ResultCodes {
+    private static final ConcurrentHashMap<String, Integer> STATUS_CODES = new ConcurrentHashMap<>();
+
+    static {
+        // 자주 쓰는 코드는 미리 등록, 그 외 코드는 처음 사용할 때 등록된다.
+        List.of("200-1", "201-1", "400-1", "401-1", "401-2", "401-3", "403-1", "404-1", "409-1", "412-1", "429-1")
+                .forEach(ResultCodes::statusCodeOf);
+    }
+
+    public static int statusCodeOf(String resultCode) {
+        Integer statusCode = STATUS_CODES.get(resultCode);
+        if (statusCode != null) return statusCode;
+
+        return STATUS_CODES.computeIfAbsent(resultCode, ResultCodes::parseStatusCode);
+    }
+
+    // "-" 앞의 숫자, 정규식이나 배열 없이 직접 읽는다.
+    private static int parseStatusCode(String resultCode) {
+        int statusCode = 0;
+        int i = 0;
+
+        for (; i < resultCode.length(); i++) {
+            char c = resultCode.charAt(i);
+            if (c == '-') break;
+            if (c < '0' || c > '9') throw new IllegalArgumentException("잘못된 resultCode 입니다: " + resultCode);
+
+            statusCode = statusCode * 10 + (c - '0');
+        }
+
+        if (i == 0) throw new IllegalArgumentException("잘못된 resultCode 입니다: " + resultCode);
+
+        return statusCode;
+    }
+}
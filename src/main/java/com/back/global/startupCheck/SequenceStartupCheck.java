@@ -0,0 +1,66 @@
+package com.back.global.startupCheck;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// IDENTITY 로 만들어진 기존 DB(db_dev 등)에 ddl-auto: update 로 시퀀스가 새로 생기면 1부터 시작해서 기존 행과 id 가 겹친다.
+// 웹 서버가 요청을 받기 전(싱글톤 생성 직후)에 시퀀스가 테이블의 max(id) 뒤에 있는지 확인하고, 아니면 그 뒤로 옮긴다.
+@Slf4j
+@Component
+public class SequenceStartupCheck implements SmartInitializingSingleton {
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceStartupCheck(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (!(persister.getGenerator() instanceof SequenceStyleGenerator generator)) return;
+            if (!(persister instanceof AbstractEntityPersister entityPersister)) return;
+
+            DatabaseStructure structure = generator.getDatabaseStructure();
+            if (!structure.isPhysicalSequence()) return;
+
+            String sequenceName = structure.getPhysicalName().getObjectName().getText();
+            String tableName = entityPersister.getTableName();
+            String idColumnName = entityPersister.getIdentifierColumnNames()[0];
+
+            Long maxId = jdbcTemplate.queryForObject(
+                    "select coalesce(max(%s), 0) from %s".formatted(idColumnName, tableName),
+                    Long.class
+            );
+            if (maxId == null || maxId == 0) return; // 빈 테이블은 겹칠 id 가 없으므로 시퀀스 값을 쓰지 않는다.
+
+            // 값을 하나 가져오면 pooled 할당 한 구간을 건너뛰지만, 재시작할 때마다 남은 구간을 버리는 것과 같다.
+            Long nextValue = jdbcTemplate.queryForObject(
+                    dialect.getSequenceSupport().getSequenceNextValString(sequenceName),
+                    Long.class
+            );
+            if (nextValue != null && nextValue >= maxId) return;
+
+            // pooled 최적화기는 (시퀀스 값 - increment + 1) 부터 쓰므로 increment 만큼 더 뒤에서 시작
+            long restartWith = maxId + structure.getIncrementSize() + 1;
+            jdbcTemplate.execute("alter sequence %s restart with %d".formatted(sequenceName, restartWith));
+
+            log.warn(
+                    "시퀀스 {} 가 {} 의 max(id) {} 보다 뒤에 있지 않아 {} 부터 다시 시작합니다. (IDENTITY 로 만든 DB 를 이어서 사용하는 경우)",
+                    sequenceName, tableName, maxId, restartWith
+            );
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package com.back.global.startupCheck;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// SQL/바인딩 로그는 쿼리마다 콘솔에 여러 줄을 동기로 쓰기 때문에 부하가 걸리면 그 자체가 병목이 된다.
+// 개발 프로필이 아닌데 켜져 있으면 기동 직후 경고한다.
+@Slf4j
+@Component
+public class SqlLoggingStartupCheck {
+    private static final List<String> TRACE_LOGGERS = List.of(
+            "org.hibernate.orm.jdbc.bind",
+            "org.hibernate.orm.jdbc.extract",
+            "org.hibernate.SQL"
+    );
+
+    private final Environment environment;
+    private final boolean showSql;
+
+    public SqlLoggingStartupCheck(Environment environment, @Value("${spring.jpa.show-sql:false}") boolean showSql) {
+        this.environment = environment;
+        this.showSql = showSql;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        List<String> enabled = new ArrayList<>();
+
+        if (showSql) enabled.add("spring.jpa.show-sql");
+
+        for (String name : TRACE_LOGGERS) {
+            if (LoggerFactory.getLogger(name).isTraceEnabled()) enabled.add(name + "=TRACE");
+        }
+
+        if (enabled.isEmpty()) return;
+
+        if (environment.acceptsProfiles(Profiles.of("dev", "test"))) {
+            log.info("SQL 로그 활성화: {}", enabled);
+            return;
+        }
+
+        log.warn("SQL 로그가 켜져 있습니다. 부하 상황에서 응답 시간이 크게 늘어날 수 있으니 운영에서는 끄세요 (application-prod.yml): {}", enabled);
+    }
+}
@@ -0,0 +1,67 @@
+package com.back.global.transaction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// 내부 작업(배치, 이벤트 처리 등)용, @Version 충돌이 나면 새 트랜잭션에서 처음부터 다시 실행한다.
+// 다시 실행할 때 최신 버전을 읽어야 하므로 엔티티 조회부터 action 안에서 해야 한다.
+// HTTP 요청은 다시 시도하지 않고 409 로 응답한다. (사용자가 바뀐 내용을 보고 다시 수정)
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticLockRetry(
+            PlatformTransactionManager transactionManager,
+            @Value("${custom.optimisticLockRetry.maxAttempts}") int maxAttempts,
+            @Value("${custom.optimisticLockRetry.backoffMillis}") long backoffMillis
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 바깥 트랜잭션에 참여하면 충돌 후 롤백 전용이 되어 다시 실행할 수 없으므로 항상 새 트랜잭션
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) throw e;
+
+                log.debug("낙관적 락 충돌, 다시 시도합니다. ({}/{})", attempt, maxAttempts);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    public void executeWithoutResult(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // 같은 순간에 충돌한 요청들이 다시 같이 부딪히지 않도록 대기 시간을 흩뜨린다.
+    private void backoff(int attempt, OptimisticLockingFailureException e) {
+        long millis = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.back.global.webMvc;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+// 강한(strong) ETag, 같은 값이면 응답 바이트도 같아야 한다.
+public class ETags {
+    public static String of(byte[] bytes) {
+        return "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+    }
+
+    // 응답을 만들지 않고 응답을 결정하는 값들로 만든다.
+    public static String of(Object... parts) {
+        return of(join(parts));
+    }
+
+    // 엔티티 버전이 앞에 붙은 ETag("3-<md5>"), If-None-Match 는 전체를, If-Match 는 버전만 비교한다.
+    // 조회수/작성자 이름처럼 수정 없이 바뀌는 값 때문에 수정 요청이 충돌로 처리되지 않도록
+    public static String versioned(long version, byte[] bytes) {
+        return "\"" + version + "-" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+    }
+
+    public static String versioned(long version, Object... parts) {
+        return versioned(version, join(parts));
+    }
+
+    // If-Match 헤더가 없거나 "*" 이면 통과, 목록 중 하나라도 버전이 같으면 통과
+    // 응답이 압축되면 Tomcat 이 ETag 앞에 W/ 를 붙이므로 약한 ETag 도 받는다.
+    public static boolean matchesVersion(String ifMatch, long version) {
+        if (ifMatch == null || ifMatch.isBlank()) return true;
+
+        for (String etag : ifMatch.split(",")) {
+            String value = etag.strip();
+
+            if (value.equals("*")) return true;
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.length() < 2 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') continue;
+
+            int dashIndex = value.indexOf('-');
+            if (dashIndex < 0) continue;
+
+            String versionPart = value.substring(1, dashIndex);
+            if (versionPart.equals(Long.toString(version))) return true;
+        }
+
+        return false;
+    }
+
+    private static byte[] join(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+
+        for (Object part : parts) {
+            sb.append(part).append('|');
+        }
+
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
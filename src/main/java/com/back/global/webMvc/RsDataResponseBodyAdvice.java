@@ -0,0 +1,36 @@
+package com.back.global.webMvc;
+
+import com.back.global.rsData.RsData;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// RsData 를 반환하는 핸들러의 HTTP 상태 코드를 resultCode 에 맞춘다.
+// 응답 바디를 쓰기 직전 MVC 파이프라인에서 처리하므로 컨트롤러를 AOP 프록시로 감쌀 필요가 없다.
+@RestControllerAdvice
+public class RsDataResponseBodyAdvice implements ResponseBodyAdvice<RsData<?>> {
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        // ResponseEntity<RsData<?>> 처럼 상태 코드를 직접 정하는 경우는 제외
+        return RsData.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public RsData<?> beforeBodyWrite(
+            RsData<?> body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (body != null) response.setStatusCode(HttpStatusCode.valueOf(body.statusCode()));
+
+        return body;
+    }
+}
@@ -1,11 +1,38 @@
 package com.back.global.webMvc;
 
+import com.back.domain.member.member.service.MemberService;
+import com.back.global.rateLimit.RateLimitInterceptor;
+import com.back.global.rateLimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
+    private final MemberService memberService;
+
+    @Value("${custom.rateLimit.maxBuckets}")
+    private long rateLimitMaxBuckets;
+    @Value("${custom.rateLimit.idleSeconds}")
+    private long rateLimitIdleSeconds;
+    @Value("${custom.rateLimit.post.capacity}")
+    private int postRateLimitCapacity;
+    @Value("${custom.rateLimit.post.refillPerSecond}")
+    private int postRateLimitRefillPerSecond;
+    @Value("${custom.rateLimit.postComment.capacity}")
+    private int postCommentRateLimitCapacity;
+    @Value("${custom.rateLimit.postComment.refillPerSecond}")
+    private int postCommentRateLimitRefillPerSecond;
+    @Value("${custom.rateLimit.unknownKey.capacity}")
+    private int unknownKeyRateLimitCapacity;
+    @Value("${custom.rateLimit.unknownKey.refillPerSecond}")
+    private int unknownKeyRateLimitRefillPerSecond;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry
@@ -15,4 +42,27 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 캐시에 없는 키의 회원 조회는 글/댓글 구분 없이 IP 별로 한 버킷에서 제한
+        RateLimiter unknownKeyRateLimiter = new RateLimiter(
+                unknownKeyRateLimitCapacity, unknownKeyRateLimitRefillPerSecond, rateLimitMaxBuckets, rateLimitIdleSeconds
+        );
+
+        // OSIV 인터셉터보다 먼저 실행되어야 거절된 요청이 EntityManager 를 만들지 않는다.
+        registry
+                .addInterceptor(new RateLimitInterceptor(memberService, new RateLimiter(
+                        postRateLimitCapacity, postRateLimitRefillPerSecond, rateLimitMaxBuckets, rateLimitIdleSeconds
+                ), unknownKeyRateLimiter))
+                .addPathPatterns("/api/v1/posts", "/api/v1/posts/*")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+
+        registry
+                .addInterceptor(new RateLimitInterceptor(memberService, new RateLimiter(
+                        postCommentRateLimitCapacity, postCommentRateLimitRefillPerSecond, rateLimitMaxBuckets, rateLimitIdleSeconds
+                ), unknownKeyRateLimiter))
+                .addPathPatterns("/api/v1/posts/*/comments", "/api/v1/posts/*/comments/*")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
 }
@@ -3,6 +3,7 @@ package com.back.domain.post.member.member.controller;
 import com.back.domain.member.member.controller.ApiV1MemberController;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.service.MemberService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -28,6 +30,8 @@ public class ApiV1MemberControllerTest {
     private MemberService memberService;
     @Autowired
     private MockMvc mvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Test
     @DisplayName("회원가입")
@@ -93,4 +97,37 @@ public class ApiV1MemberControllerTest {
                 .andExpect(jsonPath("$.data.item.name").value(member.getName()))
                 .andExpect(jsonPath("$.data.apiKey").value(member.getApiKey()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("인증 캐시의 회원(API 키 없는 스냅샷)으로 닉네임 변경, API 키 재발급을 해도 저장되고 이전 키는 캐시에서 빠진다")
+    void t3() {
+        Member member = memberService.join("actorSnapshotT3", "1234", "이전 닉네임");
+        String oldApiKey = member.getApiKey();
+
+        Member actor = memberService.findActorByApiKey(oldApiKey).get(); // rq.getActor() 와 같은 스냅샷
+        assertThat(actor.getApiKey()).isNull();
+
+        memberService.modifyNickname(actor, "새 닉네임");
+        memberService.rotateApiKey(actor);
+
+        assertThat(member.getNickname()).isEqualTo("새 닉네임");
+        assertThat(member.getApiKey()).isNotEqualTo(oldApiKey);
+        assertThat(memberService.findCachedActorByApiKey(oldApiKey)).isEmpty();
+        assertThat(memberService.findActorByApiKey(member.getApiKey()).get().getNickname()).isEqualTo("새 닉네임");
+    }
+
+    @Test
+    @DisplayName("인증 캐시의 적중/실패 수와 크기를 메트릭으로 내보낸다")
+    void t4() {
+        Member member = memberService.findByUsername("user2").get();
+
+        double hitCount = meterRegistry.get("cache.gets").tags("cache", "memberActor", "result", "hit").functionCounter().count();
+
+        memberService.findActorByApiKey(member.getApiKey());
+        memberService.findActorByApiKey(member.getApiKey()); // 적어도 두 번째는 캐시에서
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "memberActor", "result", "hit").functionCounter().count())
+                .isGreaterThan(hitCount);
+        assertThat(meterRegistry.get("cache.size").tags("cache", "memberActor").gauge().value()).isGreaterThanOrEqualTo(1);
+    }
+}
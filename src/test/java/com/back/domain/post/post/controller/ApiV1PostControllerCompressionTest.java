@@ -0,0 +1,97 @@
+package com.back.domain.post.post.controller;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberService;
+import com.back.domain.post.post.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 응답 압축은 Tomcat 이 하므로 MockMvc 로는 확인할 수 없어서 실제 포트로 요청한다.
+// 압축을 직접 풀어서 확인하도록 자동으로 풀지 않는 JDK HttpClient 를 사용
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ApiV1PostControllerCompressionTest {
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("2KB 가 넘는 JSON 응답은 Accept-Encoding: gzip 이면 압축, 작은 응답은 그대로")
+    void t1() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Integer> postIds = new ArrayList<>();
+
+        // 목록이 2KB 를 넘도록 글을 커밋해 두고 끝나면 지운다. (다른 테스트와 같은 DB)
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Member author = memberService.findByUsername("user1").get();
+
+                for (int i = 0; i < 10; i++) {
+                    postIds.add(postService.write(author, "압축 %d".formatted(i), "내용 %d ".formatted(i).repeat(40)).getId());
+                }
+            });
+
+            String uri = "/api/v1/posts?pageSize=10";
+
+            HttpResponse<byte[]> plainResponse = get(uri, false);
+            assertThat(plainResponse.statusCode()).isEqualTo(200);
+            assertThat(plainResponse.headers().firstValue("Content-Encoding")).isEmpty();
+            assertThat(plainResponse.body().length).isGreaterThan(2 * 1024);
+
+            HttpResponse<byte[]> gzipResponse = get(uri, true);
+            assertThat(gzipResponse.statusCode()).isEqualTo(200);
+            assertThat(gzipResponse.headers().firstValue("Content-Encoding")).hasValue("gzip");
+            assertThat(gzipResponse.body().length).isLessThan(plainResponse.body().length);
+            assertThat(gunzip(gzipResponse.body())).isEqualTo(plainResponse.body());
+
+            // min-response-size(2KB) 보다 작은 응답은 압축하지 않는다.
+            HttpResponse<byte[]> smallResponse = get("/api/v1/posts/" + postIds.getFirst(), true);
+            assertThat(smallResponse.statusCode()).isEqualTo(200);
+            assertThat(smallResponse.body().length).isLessThan(2 * 1024);
+            assertThat(smallResponse.headers().firstValue("Content-Encoding")).isEmpty();
+        } finally {
+            transactionTemplate.executeWithoutResult(status ->
+                    postIds.forEach(id -> postService.findById(id).ifPresent(postService::delete))
+            );
+        }
+    }
+
+    private HttpResponse<byte[]> get(String uri, boolean gzip) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:%d%s".formatted(port, uri)));
+        if (gzip) builder.header("Accept-Encoding", "gzip");
+
+        return httpClient.send(builder.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
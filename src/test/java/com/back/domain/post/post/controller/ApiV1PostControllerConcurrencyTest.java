@@ -0,0 +1,133 @@
+package com.back.domain.post.post.controller;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberService;
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.service.PostService;
+import com.back.global.transaction.OptimisticLockRetry;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 요청이 서로 겹치는 순서를 PostService 스파이로 정하는 테스트, 스파이가 다른 테스트의 컨텍스트에 섞이지 않도록 따로 둔다.
+// 두 요청이 각자 커밋해야 @Version 충돌이 나므로 테스트 트랜잭션을 걸지 않는다.
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ApiV1PostControllerConcurrencyTest {
+    @Autowired
+    private MockMvc mvc;
+    @MockitoSpyBean // 수정 직전에 멈추기 위해 사용, 그 외에는 실제 메서드를 그대로 호출
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @Test
+    @DisplayName("글 수정, 같은 버전을 읽은 두 요청이 동시에 커밋하면 나중 요청은 409 이고 먼저 커밋된 수정은 남는다")
+    void t1() throws Exception {
+        Member author = memberService.findByUsername("user1").get();
+        int postId = optimisticLockRetry.execute(() -> postService.write(author, "동시 수정", "내용").getId());
+
+        String etag = mvc
+                .perform(
+                        get("/api/v1/posts/" + postId)
+                )
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // 먼저 들어온 요청은 글을 읽고 If-Match 를 통과한 뒤, 수정하기 직전에 멈춘다.
+        CountDownLatch firstEntered = new CountDownLatch(1);
+        CountDownLatch firstProceed = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+
+        doAnswer(invocation -> {
+            if (first.compareAndSet(true, false)) {
+                firstEntered.countDown();
+                firstProceed.await(30, SECONDS);
+            }
+
+            return invocation.callRealMethod();
+        }).when(postService).modify(any(Post.class), anyString(), anyString());
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<MockHttpServletResponse> firstResponse = executor.submit(() -> mvc
+                    .perform(
+                            put("/api/v1/posts/" + postId)
+                                    .header("Authorization", "Bearer " + author.getApiKey())
+                                    .header("If-Match", etag)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                                "title": "제목 first",
+                                                "content": "내용 first"
+                                            }
+                                            """)
+                    )
+                    .andReturn()
+                    .getResponse());
+
+            assertThat(firstEntered.await(30, SECONDS)).isTrue();
+
+            // 같은 버전을 읽은 다른 요청이 먼저 커밋
+            mvc
+                    .perform(
+                            put("/api/v1/posts/" + postId)
+                                    .header("Authorization", "Bearer " + author.getApiKey())
+                                    .header("If-Match", etag)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                                "title": "제목 second",
+                                                "content": "내용 second"
+                                            }
+                                            """)
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.resultCode").value("200-1"));
+
+            firstProceed.countDown();
+
+            MockHttpServletResponse response = firstResponse.get(30, SECONDS);
+
+            assertThat(response.getStatus()).isEqualTo(409);
+            assertThat(JsonPath.<String>read(response.getContentAsString(), "$.resultCode")).isEqualTo("409-1");
+
+            // 나중 요청이 먼저 커밋된 수정을 덮어쓰지 않았다.
+            Post post = optimisticLockRetry.execute(() -> postService.findById(postId).get());
+
+            assertThat(post.getTitle()).isEqualTo("제목 second");
+            assertThat(post.getContent()).isEqualTo("내용 second");
+            assertThat(post.getVersion()).isEqualTo(1);
+        } finally {
+            firstProceed.countDown();
+            optimisticLockRetry.executeWithoutResult(() -> postService.delete(postService.findById(postId).get()));
+        }
+    }
+}
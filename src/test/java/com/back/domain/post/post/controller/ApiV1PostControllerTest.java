@@ -1,23 +1,54 @@
 package com.back.domain.post.post.controller;
 
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberActorCache;
 import com.back.domain.member.member.service.MemberService;
+import com.back.domain.post.post.dto.PostDto;
 import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.service.AuthorNameSync;
+import com.back.domain.post.post.service.PostDetailCache;
 import com.back.domain.post.post.service.PostService;
+import com.back.domain.post.post.service.PostViewCounter;
+import com.back.domain.post.post.service.TrendingService;
+import com.back.global.jpaCache.JpaCacheConfig;
+import com.back.global.transaction.OptimisticLockRetry;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
 import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +64,26 @@ public class ApiV1PostControllerTest {
     private PostService postService;
     @Autowired
     private MemberService memberService;
+    @Autowired
+    private MemberActorCache memberActorCache;
+    @Autowired
+    private PostViewCounter postViewCounter;
+    @Autowired
+    private TrendingService trendingService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+    @Autowired
+    private AuthorNameSync authorNameSync;
+    @Autowired
+    private PostDetailCache postDetailCache;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     @Test
     @DisplayName("글 쓰기")
@@ -273,24 +324,804 @@ public class ApiV1PostControllerTest {
                 )
                 .andDo(print());
 
-        List<Post> posts = postService.findAll();
+        List<Post> posts = postService.findAll().reversed(); // 최신 글부터
 
         resultActions
                 .andExpect(handler().handlerType(ApiV1PostController.class))
                 .andExpect(handler().methodName("getItems"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(posts.size()));
+                .andExpect(jsonPath("$.items.length()").value(posts.size()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
 
         for (int i = 0; i < posts.size(); i++) {
             Post post = posts.get(i);
             resultActions
-                    .andExpect(jsonPath("$[%d].id".formatted(i)).value(post.getId()))
-                    .andExpect(jsonPath("$[%d].createDate".formatted(i)).value(Matchers.startsWith(post.getCreateDate().toString().substring(0, 20))))
-                    .andExpect(jsonPath("$[%d].modifyDate".formatted(i)).value(Matchers.startsWith(post.getModifyDate().toString().substring(0, 20))))
-                    .andExpect(jsonPath("$[%d].authorId".formatted(i)).value(post.getAuthor().getId()))
-                    .andExpect(jsonPath("$[%d].authorName".formatted(i)).value(post.getAuthor().getNickname()))
-                    .andExpect(jsonPath("$[%d].title".formatted(i)).value(post.getTitle()))
-                    .andExpect(jsonPath("$[%d].content".formatted(i)).value(post.getContent()));
+                    .andExpect(jsonPath("$.items[%d].id".formatted(i)).value(post.getId()))
+                    .andExpect(jsonPath("$.items[%d].createDate".formatted(i)).value(Matchers.startsWith(post.getCreateDate().toString().substring(0, 20))))
+                    .andExpect(jsonPath("$.items[%d].modifyDate".formatted(i)).value(Matchers.startsWith(post.getModifyDate().toString().substring(0, 20))))
+                    .andExpect(jsonPath("$.items[%d].authorId".formatted(i)).value(post.getAuthor().getId()))
+                    .andExpect(jsonPath("$.items[%d].authorName".formatted(i)).value(post.getAuthor().getNickname()))
+                    .andExpect(jsonPath("$.items[%d].title".formatted(i)).value(post.getTitle()))
+                    .andExpect(jsonPath("$.items[%d].content".formatted(i)).value(post.getContent()));
+        }
+    }
+
+    @Test
+    @DisplayName("글 다건조회, 커서로 다음 페이지 조회")
+    void t10() throws Exception {
+        List<Post> posts = postService.findAll().reversed();
+
+        ResultActions firstPageActions = mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .param("pageSize", "2")
+                )
+                .andDo(print());
+
+        firstPageActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(posts.get(0).getId()))
+                .andExpect(jsonPath("$.items[1].id").value(posts.get(1).getId()))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        String nextCursor = JsonPath.read(
+                firstPageActions.andReturn().getResponse().getContentAsString(),
+                "$.nextCursor"
+        );
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .param("cursor", nextCursor)
+                                .param("pageSize", "2")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(Math.min(2, posts.size() - 2)))
+                .andExpect(jsonPath("$.items[0].id").value(posts.get(2).getId()));
+    }
+
+    @Test
+    @DisplayName("글 다건조회, 잘못된 커서")
+    void t11() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .param("cursor", "wrong-cursor")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-1"))
+                .andExpect(jsonPath("$.msg").value("커서 형식이 올바르지 않습니다."));
+    }
+
+    @Test
+    @DisplayName("글 다건조회, 페이지 크기와 상관없이 쿼리 2번")
+    void t12() throws Exception {
+        for (int i = 1; i <= 20; i++) {
+            Member author = memberService.findByUsername("user" + (i % 3 + 1)).get();
+            postService.write(author, "제목 %d".formatted(i), "내용 %d".formatted(i));
+        }
+        postService.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .param("pageSize", "20")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(20));
+
+        // ETag 확인용 조회 1 + 목록 조회 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 API 키로 다시 요청하면 회원을 캐시에서 가져온다")
+    void t13() throws Exception {
+        Member actor = memberService.findByUsername("user1").get();
+        String actorApiKey = actor.getApiKey();
+
+        long hitCount = memberActorCache.hitCount();
+        long missCount = memberActorCache.missCount();
+
+        for (int i = 0; i < 3; i++) {
+            mvc
+                    .perform(
+                            post("/api/v1/posts")
+                                    .header("Authorization", "Bearer " + actorApiKey)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                                "title": "제목",
+                                                "content": "내용"
+                                            }
+                                            """)
+                    )
+                    .andExpect(status().isCreated());
+        }
+
+        // 처음 한 번만 DB 에서 조회(이전 테스트에서 이미 적재됐다면 0번)
+        assertThat(memberActorCache.missCount() - missCount).isLessThanOrEqualTo(1);
+        assertThat(memberActorCache.hitCount() - hitCount).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("API 키를 재발급하면 이전 키는 더 이상 인증되지 않는다")
+    void t14() throws Exception {
+        Member actor = memberService.findByUsername("user1").get();
+        String oldApiKey = actor.getApiKey();
+
+        memberService.findActorByApiKey(oldApiKey); // 캐시에 적재
+        memberService.rotateApiKey(actor);
+        postService.flush();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/posts")
+                                .header("Authorization", "Bearer " + oldApiKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "title": "제목",
+                                            "content": "내용"
+                                        }
+                                        """)
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.resultCode").value("401-3"));
+    }
+
+    @Test
+    @DisplayName("글 단건조회, 두 번째 조회부터는 캐시에서 응답하고 수정하면 캐시가 지워진다")
+    void t15() throws Exception {
+        int id = 1;
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/" + id)
+                )
+                .andExpect(status().isOk());
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/" + id)
+                )
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        Post post = postService.findById(id).get();
+        String actorApiKey = post.getAuthor().getApiKey();
+
+        mvc
+                .perform(
+                        put("/api/v1/posts/" + id)
+                                .header("Authorization", "Bearer " + actorApiKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "title": "제목 new",
+                                            "content": "내용 new"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isOk());
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/" + id)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("제목 new"))
+                .andExpect(jsonPath("$.content").value("내용 new"));
+    }
+
+    @Test
+    @DisplayName("글 검색")
+    void t16() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/search")
+                                .param("q", "제목 2")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.q").value("제목 2"))
+                .andExpect(jsonPath("$.totalCount").value(1))
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("제목 2"));
+    }
+
+    @Test
+    @DisplayName("글 검색, 검색어 없음")
+    void t17() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/search")
+                                .param("q", "")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-1"))
+                .andExpect(jsonPath("$.msg").value("q-NotBlank-must not be blank"));
+    }
+
+    @Test
+    @DisplayName("글 다건 작성, 항목별 결과")
+    void t18() throws Exception {
+        Member actor = memberService.findByUsername("user1").get();
+        String actorApiKey = actor.getApiKey();
+        long count = postService.count();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/posts/bulk")
+                                .header("Authorization", "Bearer " + actorApiKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "items": [
+                                                { "title": "제목 a", "content": "내용 a" },
+                                                { "title": "", "content": "내용 b" },
+                                                { "title": "제목 c", "content": "내용 c" }
+                                            ]
+                                        }
+                                        """)
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("writeAll"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.resultCode").value("201-1"))
+                .andExpect(jsonPath("$.msg").value("3건 중 2건의 글이 작성되었습니다."))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].resultCode").value("201-1"))
+                .andExpect(jsonPath("$.data[0].id").isNumber())
+                .andExpect(jsonPath("$.data[1].resultCode").value("400-1"))
+                .andExpect(jsonPath("$.data[1].msg").value("""
+                        title-NotBlank-must not be blank
+                        title-Size-size must be between 2 and 100
+                        """.stripIndent().trim()))
+                .andExpect(jsonPath("$.data[1].id").doesNotExist())
+                .andExpect(jsonPath("$.data[2].resultCode").value("201-1"));
+
+        assertThat(postService.count()).isEqualTo(count + 2);
+
+        int id = JsonPath.read(resultActions.andReturn().getResponse().getContentAsString(), "$.data[2].id");
+        Post post = postService.findById(id).get();
+        assertThat(post.getTitle()).isEqualTo("제목 c");
+        assertThat(post.getAuthor()).isEqualTo(actor);
+    }
+
+    @Test
+    @DisplayName("글 단건조회, 조회수는 모아서 반영")
+    void t19() throws Exception {
+        Member author = memberService.findByUsername("user1").get();
+        Post post = postService.write(author, "제목", "내용");
+        postService.flush();
+
+        for (int i = 0; i < 3; i++) {
+            mvc
+                    .perform(
+                            get("/api/v1/posts/" + post.getId())
+                    )
+                    .andExpect(status().isOk());
         }
+
+        em.clear(); // 영속성 컨텍스트가 아닌 DB 값 확인
+        assertThat(postService.findById(post.getId()).get().getViewsCount()).isZero();
+
+        postViewCounter.flush();
+        em.clear();
+
+        assertThat(postService.findById(post.getId()).get().getViewsCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("인기 글, 조회된 글이 다시 계산된 순위에 포함")
+    void t20() throws Exception {
+        Member author = memberService.findByUsername("user1").get();
+        Post post = postService.write(author, "인기 글", "내용");
+        postService.flush();
+
+        for (int i = 0; i < 3; i++) {
+            mvc
+                    .perform(
+                            get("/api/v1/posts/" + post.getId())
+                    )
+                    .andExpect(status().isOk());
+        }
+
+        trendingService.refresh();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/trending")
+                )
+                .andDo(print())
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getTrendingItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id").value(Matchers.hasItem(post.getId())))
+                .andExpect(jsonPath("$.refreshDate").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("작성자(회원)는 2차 캐시, 아이디로 회원 조회는 쿼리 캐시에서 다시 가져온다")
+    void t21() throws Exception {
+        int postId = 1;
+
+        em.clear();
+        postService.findById(postId).get().getAuthor().getName(); // 캐시에 적재
+        memberService.findByUsername("user1").get();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        em.clear();
+        postService.findById(postId).get().getAuthor().getName();
+        memberService.findByUsername("user1").get();
+
+        assertThat(statistics.getDomainDataRegionStatistics(JpaCacheConfig.MEMBER_REGION).getHitCount()).isGreaterThanOrEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 resultCode 별로 메트릭이 집계된다")
+    void t22() throws Exception {
+        double count = meterRegistry.counter("api.results", "resultCode", "404-1").count();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/" + Integer.MAX_VALUE)
+                )
+                .andExpect(status().isNotFound());
+
+        assertThat(meterRegistry.counter("api.results", "resultCode", "404-1").count()).isEqualTo(count + 1);
+    }
+
+    @Test
+    @DisplayName("글 단건조회, ETag 가 같으면 304 이고 조회수에 넣지 않는다")
+    void t23() throws Exception {
+        Member author = memberService.findByUsername("user1").get();
+        Post post = postService.write(author, "제목", "내용");
+        postService.flush();
+
+        String etag = mvc
+                .perform(
+                        get("/api/v1/posts/" + post.getId())
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/" + post.getId())
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        postViewCounter.flush();
+        em.clear(); // 영속성 컨텍스트가 아닌 DB 값 확인
+
+        assertThat(postService.findById(post.getId()).get().getViewsCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("글 다건조회, ETag 가 같으면 304 이고 글이 수정되면 다시 200")
+    void t24() throws Exception {
+        String etag = mvc
+                .perform(
+                        get("/api/v1/posts")
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .header("If-None-Match", etag)
+                )
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isNotModified());
+
+        Post post = postService.findLatest().get();
+        postService.modify(post, "제목 new", "내용 new");
+        postService.flush();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .header("If-None-Match", etag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("제목 new"));
+    }
+
+    @Test
+    @DisplayName("글 수정, If-Match 의 버전이 현재 버전과 다르면 412")
+    void t25() throws Exception {
+        int id = 1;
+
+        Post post = postService.findById(id).get();
+        String actorApiKey = post.getAuthor().getApiKey();
+
+        String etag = mvc
+                .perform(
+                        get("/api/v1/posts/" + id)
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", Matchers.startsWith("\"%d-".formatted(post.getVersion()))))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // 조회한 뒤 다른 곳에서 먼저 수정
+        postService.modify(post, "제목 other", "내용 other");
+        postService.flush();
+
+        mvc
+                .perform(
+                        put("/api/v1/posts/" + id)
+                                .header("Authorization", "Bearer " + actorApiKey)
+                                .header("If-Match", etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "title": "제목 new",
+                                            "content": "내용 new"
+                                        }
+                                        """)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("modify"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.resultCode").value("412-1"))
+                .andExpect(jsonPath("$.msg").value("글이 다른 곳에서 수정되었습니다. 다시 조회한 뒤 수정해주세요."));
+
+        String newEtag = mvc
+                .perform(
+                        get("/api/v1/posts/" + id)
+                )
+                .andExpect(jsonPath("$.title").value("제목 other"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        put("/api/v1/posts/" + id)
+                                .header("Authorization", "Bearer " + actorApiKey)
+                                .header("If-Match", newEtag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "title": "제목 new",
+                                            "content": "내용 new"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"));
+    }
+
+    @Test
+    @DisplayName("닉네임을 바꾸면 글 목록의 작성자 이름은 AuthorNameSync 가 반영한 뒤에 바뀐다")
+    void t26() throws Exception {
+        Post post = postService.findLatest().get();
+        String oldName = post.getAuthorName();
+
+        memberService.modifyNickname(post.getAuthor(), "새 닉네임");
+        postService.flush();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                )
+                .andExpect(jsonPath("$.items[0].id").value(post.getId()))
+                .andExpect(jsonPath("$.items[0].authorName").value(oldName));
+
+        // 테스트 트랜잭션은 커밋되지 않아 변경 이벤트가 대기열에 들어가지 않으므로, 어긋난 이름을 찾는 repair 로 반영
+        authorNameSync.repair();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                )
+                .andExpect(jsonPath("$.items[0].authorName").value("새 닉네임"));
+    }
+
+    @Test
+    @DisplayName("캐시에 적재하는 도중 무효화되면 적재한 값은 캐시에 남지 않는다")
+    void t27() throws Exception {
+        // 회원을 읽은 뒤, put 하기 전에 API 키 재발급이 커밋된 경우
+        Member actor = memberService.findByUsername("user1").get();
+        String apiKey = actor.getApiKey();
+        memberActorCache.evict(apiKey);
+
+        memberActorCache.get(apiKey, key -> {
+            Optional<Member> loaded = Optional.of(actor);
+            memberActorCache.evict(key);
+            return loaded;
+        });
+
+        AtomicInteger actorLoadsCount = new AtomicInteger();
+        memberActorCache.get(apiKey, key -> {
+            actorLoadsCount.incrementAndGet();
+            return Optional.of(actor);
+        });
+
+        assertThat(actorLoadsCount.get()).isEqualTo(1);
+
+        // 글을 읽은 뒤, put 하기 전에 수정이 커밋된 경우
+        Post post = postService.findById(1).get();
+        postDetailCache.evict(post.getId());
+
+        postDetailCache.get(post.getId(), id -> {
+            Optional<PostDto> loaded = Optional.of(new PostDto(post));
+            postDetailCache.evict(id);
+            return loaded;
+        });
+
+        AtomicInteger postLoadsCount = new AtomicInteger();
+        postDetailCache.get(post.getId(), id -> {
+            postLoadsCount.incrementAndGet();
+            return Optional.of(new PostDto(post));
+        });
+
+        assertThat(postLoadsCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서 캐시를 적재/조회할 때 캐리어 스레드 고정(pinning)이 없다")
+    @Transactional(propagation = NOT_SUPPORTED) // 요청마다 각자 트랜잭션을 열도록
+    void t28() throws Exception {
+        String apiKey = memberService.findByUsername("user1").get().getApiKey();
+        Path jfrFile = Files.createTempFile("pinning", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            // 캐시를 비워 가며 동시에 적재하도록 같은 키로 몰아서 요청
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+
+                for (int i = 0; i < 200; i++) {
+                    int id = i % 3 + 1;
+
+                    futures.add(executor.submit(() -> {
+                        if (id == 1) postDetailCache.evict(id);
+                        mvc.perform(get("/api/v1/posts/" + id)).andExpect(status().isOk());
+
+                        memberActorCache.evict(apiKey);
+                        memberService.findActorByApiKey(apiKey).get();
+
+                        return null;
+                    }));
+                }
+
+                for (Future<?> future : futures) {
+                    future.get(30, SECONDS);
+                }
+            }
+
+            recording.stop();
+            recording.dump(jfrFile);
+        }
+
+        // JDBC 드라이버 등 라이브러리 안의 고정은 여기서 다루지 않고, 캐시 적재 경로에서 생긴 것만 실패로 본다.
+        List<RecordedEvent> pinnedEvents = RecordingFile.readAllEvents(jfrFile)
+                .stream()
+                .filter(event -> event.getEventType().getName().equals("jdk.VirtualThreadPinned"))
+                .filter(event -> event.getStackTrace() != null && event.getStackTrace().getFrames()
+                        .stream()
+                        .map(RecordedFrame::getMethod)
+                        .anyMatch(method -> {
+                            String typeName = method.getType().getName();
+                            return typeName.startsWith("com.github.benmanes.caffeine")
+                                    || typeName.endsWith("MemberActorCache")
+                                    || typeName.endsWith("PostDetailCache");
+                        })
+                )
+                .toList();
+
+        Files.deleteIfExists(jfrFile);
+
+        assertThat(pinnedEvents).isEmpty();
+    }
+
+    @Test
+    @DisplayName("글 검색, 너무 뒤의 페이지는 힙을 만들지 않고 400")
+    void t29() throws Exception {
+        for (String page : List.of("50000000", String.valueOf(Integer.MAX_VALUE))) {
+            mvc
+                    .perform(
+                            get("/api/v1/posts/search")
+                                    .param("q", "제목")
+                                    .param("page", page)
+                    )
+                    .andDo(print())
+                    .andExpect(handler().methodName("search"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.resultCode").value("400-1"))
+                    .andExpect(jsonPath("$.msg").value(Matchers.startsWith("page-Max-")));
+        }
+    }
+
+    @Test
+    @DisplayName("글 조회수, 한 주기 동안 조회가 없던 글과 삭제된 글의 카운터는 메모리에서 빠진다")
+    void t30() throws Exception {
+        Member author = memberService.findByUsername("user1").get();
+        Post post = postService.write(author, "제목", "내용");
+        postService.flush();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/" + post.getId())
+                )
+                .andExpect(status().isOk());
+
+        // 방금 반영한 카운터는 남겨 두고
+        postViewCounter.flush();
+        assertThat(postViewCounter.contains(post.getId())).isTrue();
+
+        // 다음 주기까지 조회가 없으면 뺀다.
+        postViewCounter.flush();
+        assertThat(postViewCounter.contains(post.getId())).isFalse();
+
+        // 빠진 뒤에 조회되어도 처음부터 다시 센다.
+        mvc
+                .perform(
+                        get("/api/v1/posts/" + post.getId())
+                )
+                .andExpect(status().isOk());
+
+        postViewCounter.flush();
+        em.clear();
+
+        assertThat(postService.findById(post.getId()).get().getViewsCount()).isEqualTo(2);
+
+        // 글 삭제가 커밋되면 PostService 가 바로 뺀다. (테스트 트랜잭션은 커밋되지 않으므로 직접 호출)
+        postViewCounter.increase(post.getId());
+        postViewCounter.remove(post.getId());
+        assertThat(postViewCounter.contains(post.getId())).isFalse();
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED) // 커밋 후 이벤트 -> 대기열 -> sync 경로를 그대로 거친다.
+    @DisplayName("작성자 이름, 닉네임 변경이 커밋되면 sync 로 반영되고, 반영 뒤에 이전 이름으로 커밋된 댓글도 다음 sync 에서 맞춰진다")
+    void t31() throws Exception {
+        Member member = optimisticLockRetry.execute(() -> memberService.join("authorNameT31", "1234", "이전 닉네임"));
+        // 닉네임 변경 전에 인증 캐시에서 꺼낸 회원 (변경 전에 시작된 요청이 들고 있는 값)
+        Member staleActor = new Member(member.getId(), member.getUsername(), member.getNickname());
+        int postId = optimisticLockRetry.execute(() -> postService.write(member, "제목", "내용").getId());
+
+        try {
+            optimisticLockRetry.executeWithoutResult(() ->
+                    memberService.modifyNickname(memberService.findByUsername("authorNameT31").get(), "새 닉네임")
+            );
+
+            // 변경 요청에서는 글을 고치지 않는다.
+            assertThat(jdbcTemplate.queryForObject("select author_name from post where id = ?", String.class, postId))
+                    .isEqualTo("이전 닉네임");
+
+            authorNameSync.sync();
+
+            assertThat(jdbcTemplate.queryForObject("select author_name from post where id = ?", String.class, postId))
+                    .isEqualTo("새 닉네임");
+
+            // 반영이 끝난 뒤에 이전 이름으로 저장한 댓글이 커밋된다.
+            int commentId = optimisticLockRetry.execute(() ->
+                    postService.writeComment(staleActor, postService.findById(postId).get(), "늦은 댓글").getId()
+            );
+
+            assertThat(jdbcTemplate.queryForObject("select author_name from post_comment where id = ?", String.class, commentId))
+                    .isEqualTo("이전 닉네임");
+
+            // 커밋된 뒤 다시 대기열에 들어갔으므로 repair 를 기다리지 않고 다음 sync 에서 맞춰진다.
+            authorNameSync.sync();
+
+            assertThat(jdbcTemplate.queryForObject("select author_name from post_comment where id = ?", String.class, commentId))
+                    .isEqualTo("새 닉네임");
+        } finally {
+            optimisticLockRetry.executeWithoutResult(() -> {
+                postService.delete(postService.findById(postId).get());
+                memberService.delete(memberService.findByUsername("authorNameT31").get());
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("인기 글, 삭제된 글은 삭제 뒤에 늦게 들어온 조회가 있어도 다시 순위에 넣지 않는다")
+    void t32() throws Exception {
+        Member author = memberService.findByUsername("user1").get();
+        Post post = postService.write(author, "삭제될 인기 글", "내용");
+        postService.flush();
+
+        for (int i = 0; i < 3; i++) trendingService.onViewed(post.getId());
+        trendingService.refresh();
+
+        mvc
+                .perform(get("/api/v1/posts/trending"))
+                .andExpect(jsonPath("$.items[*].id").value(Matchers.hasItem(post.getId())));
+
+        // 삭제 커밋 후의 훅, 그 전에 글을 읽은 요청의 조회가 늦게 들어옴
+        trendingService.onPostDeleted(post.getId());
+        trendingService.onViewed(post.getId());
+        trendingService.refresh();
+
+        // 롤백될 테스트라 DB 에는 글이 남아 있으므로, 빠졌다면 순위에서 빠진 것
+        mvc
+                .perform(get("/api/v1/posts/trending"))
+                .andExpect(jsonPath("$.items[*].id").value(Matchers.not(Matchers.hasItem(post.getId()))));
+    }
+
+    @Test
+    @DisplayName("작성자 이름 반영은 이름이 바뀐 글만 2차 캐시에서 지운다")
+    void t33() {
+        Post renamedAuthorPost = postService.findById(1).get(); // user1 의 글
+        Post otherAuthorPost = postService.findById(3).get(); // user2 의 글
+
+        memberService.modifyNickname(renamedAuthorPost.getAuthor(), "새 닉네임");
+        postService.flush();
+        em.clear();
+
+        // 2차 캐시에 적재
+        postService.findById(renamedAuthorPost.getId()).get();
+        postService.findById(otherAuthorPost.getId()).get();
+        assertThat(emf.getCache().contains(Post.class, renamedAuthorPost.getId())).isTrue();
+        assertThat(emf.getCache().contains(Post.class, otherAuthorPost.getId())).isTrue();
+
+        // 커밋되지 않아 이벤트가 대기열에 들어가지 않으므로 repair 로 (지난 검사 이후 수정된 회원만 확인)
+        authorNameSync.repair();
+
+        assertThat(emf.getCache().contains(Post.class, renamedAuthorPost.getId())).isFalse();
+        assertThat(emf.getCache().contains(Post.class, otherAuthorPost.getId())).isTrue();
+        assertThat(jdbcTemplate.queryForObject("select author_name from post where id = ?", String.class, renamedAuthorPost.getId()))
+                .isEqualTo("새 닉네임");
     }
 }
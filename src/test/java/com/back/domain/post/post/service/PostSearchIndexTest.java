@@ -0,0 +1,61 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.dto.PostSearchDocDto;
+import com.back.domain.post.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PostSearchIndexTest {
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostSearchIndex postSearchIndex = new PostSearchIndex(postRepository);
+
+    @Test
+    @DisplayName("기동 색인이 배치를 읽은 뒤 커밋된 삭제/수정은 그 배치가 되돌리지 않는다")
+    void t1() {
+        when(postRepository.findSearchDocsByIdGreaterThan(eq(0), any(Pageable.class))).thenAnswer(invocation -> {
+            // 배치를 읽은 시점의 내용
+            List<PostSearchDocDto> docs = List.of(
+                    new PostSearchDocDto(1, "이전 제목", "내용"),
+                    new PostSearchDocDto(2, "삭제될 글", "내용"),
+                    new PostSearchDocDto(3, "그대로인 글", "내용")
+            );
+
+            // 배치를 반영하기 전에 다른 요청의 수정/삭제가 커밋됨
+            postSearchIndex.index(1, "새 제목", "내용");
+            postSearchIndex.remove(2);
+
+            return docs;
+        });
+        when(postRepository.findSearchDocsByIdGreaterThan(eq(3), any(Pageable.class))).thenReturn(List.of());
+
+        postSearchIndex.build();
+
+        assertThat(postSearchIndex.search("삭제될", 0, 10).postIds()).isEmpty();
+        assertThat(postSearchIndex.search("이전", 0, 10).postIds()).isEmpty();
+        assertThat(postSearchIndex.search("새", 0, 10).postIds()).containsExactly(1);
+        assertThat(postSearchIndex.search("그대로인", 0, 10).postIds()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("기동 색인이 끝난 뒤의 수정은 평소처럼 반영된다")
+    void t2() {
+        when(postRepository.findSearchDocsByIdGreaterThan(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(new PostSearchDocDto(1, "이전 제목", "내용")));
+        when(postRepository.findSearchDocsByIdGreaterThan(eq(1), any(Pageable.class))).thenReturn(List.of());
+
+        postSearchIndex.build();
+        postSearchIndex.index(1, "새 제목", "내용");
+
+        assertThat(postSearchIndex.search("이전", 0, 10).postIds()).isEmpty();
+        assertThat(postSearchIndex.search("새", 0, 10).postIds()).containsExactly(1);
+    }
+}
@@ -5,20 +5,34 @@ import com.back.domain.member.member.service.MemberService;
 import com.back.domain.post.post.entity.Post;
 import com.back.domain.post.post.service.PostService;
 import com.back.domain.post.postComment.entity.PostComment;
+import com.back.domain.post.postComment.event.PostCommentChangedEvent;
+import com.back.domain.post.postComment.service.PostCommentStream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import com.jayway.jsonpath.JsonPath;
 import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +48,16 @@ public class ApiV1PostCommentControllerTest {
     private PostService postService;
     @Autowired
     private MemberService memberService;
+    @Autowired
+    private PostCommentStream postCommentStream;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Value("${custom.rateLimit.unknownKey.capacity}")
+    private int unknownKeyRateLimitCapacity;
 
     @Test
     @DisplayName("댓글 단건조회")
@@ -47,8 +71,7 @@ public class ApiV1PostCommentControllerTest {
                 )
                 .andDo(print());
 
-        Post post = postService.findById(postId).get();
-        PostComment postComment = post.findCommentById(id).get();
+        PostComment postComment = postService.findCommentById(postId, id).get();
 
         resultActions
                 .andExpect(handler().handlerType(ApiV1PostCommentController.class))
@@ -81,19 +104,22 @@ public class ApiV1PostCommentControllerTest {
                 .andExpect(handler().handlerType(ApiV1PostCommentController.class))
                 .andExpect(handler().methodName("getItems"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(comments.size()));
+                .andExpect(jsonPath("$.totalCount").value(comments.size()))
+                .andExpect(jsonPath("$.items.length()").value(comments.size()))
+                .andExpect(jsonPath("$.prevCursor").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
 
         for (int i = 0; i < comments.size(); i++) {
             PostComment postComment = comments.get(i);
 
             resultActions
-                    .andExpect(jsonPath("$[%d].id".formatted(i)).value(postComment.getId()))
-                    .andExpect(jsonPath("$[%d].createDate".formatted(i)).value(Matchers.startsWith(postComment.getCreateDate().toString().substring(0, 20))))
-                    .andExpect(jsonPath("$[%d].modifyDate".formatted(i)).value(Matchers.startsWith(postComment.getModifyDate().toString().substring(0, 20))))
-                    .andExpect(jsonPath("$[%d].authorId".formatted(i)).value(postComment.getAuthor().getId()))
-                    .andExpect(jsonPath("$[%d].authorName".formatted(i)).value(postComment.getAuthor().getName()))
-                    .andExpect(jsonPath("$[%d].postId".formatted(i)).value(postComment.getPost().getId()))
-                    .andExpect(jsonPath("$[%d].content".formatted(i)).value(postComment.getContent()));
+                    .andExpect(jsonPath("$.items[%d].id".formatted(i)).value(postComment.getId()))
+                    .andExpect(jsonPath("$.items[%d].createDate".formatted(i)).value(Matchers.startsWith(postComment.getCreateDate().toString().substring(0, 20))))
+                    .andExpect(jsonPath("$.items[%d].modifyDate".formatted(i)).value(Matchers.startsWith(postComment.getModifyDate().toString().substring(0, 20))))
+                    .andExpect(jsonPath("$.items[%d].authorId".formatted(i)).value(postComment.getAuthor().getId()))
+                    .andExpect(jsonPath("$.items[%d].authorName".formatted(i)).value(postComment.getAuthor().getName()))
+                    .andExpect(jsonPath("$.items[%d].postId".formatted(i)).value(postComment.getPost().getId()))
+                    .andExpect(jsonPath("$.items[%d].content".formatted(i)).value(postComment.getContent()));
         }
     }
 
@@ -103,8 +129,7 @@ public class ApiV1PostCommentControllerTest {
         int postId = 1;
         int id = 1;
 
-        Post post = postService.findById(postId).get();
-        PostComment postComment = post.findCommentById(id).get();
+        PostComment postComment = postService.findCommentById(postId, id).get();
         Member actor = postComment.getAuthor();
         String actorApiKey = actor.getApiKey();
 
@@ -129,8 +154,7 @@ public class ApiV1PostCommentControllerTest {
         int postId = 1;
         int id = 1;
 
-        Post post = postService.findById(postId).get();
-        PostComment postComment = post.findCommentById(id).get();
+        PostComment postComment = postService.findCommentById(postId, id).get();
         Member actor = postComment.getAuthor();
         String actorApiKey = actor.getApiKey();
 
@@ -176,9 +200,9 @@ public class ApiV1PostCommentControllerTest {
                 )
                 .andDo(print());
 
-        Post post = postService.findById(postId).get();
-
-        PostComment postComment = post.getComments().getLast();
+        // 작성 시 flush 하지 않으므로 글의 댓글 목록(DB)이 아니라 응답의 id 로 조회
+        int id = JsonPath.read(resultActions.andReturn().getResponse().getContentAsString(), "$.data.id");
+        PostComment postComment = postService.findCommentById(postId, id).get();
 
         resultActions
                 .andExpect(handler().handlerType(ApiV1PostCommentController.class))
@@ -194,4 +218,530 @@ public class ApiV1PostCommentControllerTest {
                 .andExpect(jsonPath("$.data.postId").value(postComment.getPost().getId()))
                 .andExpect(jsonPath("$.data.content").value("내용"));
     }
+
+    @Test
+    @DisplayName("댓글 다건조회, 댓글 수와 상관없이 쿼리 수가 일정")
+    void t6() throws Exception {
+        int postId = 1;
+
+        Post post = postService.findById(postId).get();
+        for (int i = 1; i <= 20; i++) {
+            Member author = memberService.findByUsername("user" + (i % 3 + 1)).get();
+            postService.writeComment(author, post, "댓글 %d".formatted(i));
+        }
+        postService.flush();
+        em.clear(); // 작성자가 영속성 컨텍스트에 남아 있지 않도록
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                )
+                .andExpect(status().isOk());
+
+        // 글 조회 1 + ETag 확인용 집계 1 + 작성자를 포함한 댓글 목록 조회 1
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("댓글 다건조회, 커서로 앞뒤 페이지 이동")
+    void t7() throws Exception {
+        int postId = 1;
+
+        Post post = postService.findById(postId).get();
+        List<PostComment> comments = post.getComments(); // 3개
+
+        ResultActions firstPageActions = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                                .param("pageSize", "2")
+                )
+                .andDo(print());
+
+        firstPageActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(comments.get(0).getId()))
+                .andExpect(jsonPath("$.items[1].id").value(comments.get(1).getId()))
+                .andExpect(jsonPath("$.prevCursor").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        String nextCursor = JsonPath.read(
+                firstPageActions.andReturn().getResponse().getContentAsString(),
+                "$.nextCursor"
+        );
+
+        ResultActions secondPageActions = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                                .param("after", nextCursor)
+                                .param("pageSize", "2")
+                )
+                .andDo(print());
+
+        secondPageActions
+                .andExpect(handler().handlerType(ApiV1PostCommentController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(comments.get(2).getId()))
+                .andExpect(jsonPath("$.prevCursor").isNotEmpty())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        String prevCursor = JsonPath.read(
+                secondPageActions.andReturn().getResponse().getContentAsString(),
+                "$.prevCursor"
+        );
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                                .param("before", prevCursor)
+                                .param("pageSize", "2")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(comments.get(0).getId()))
+                .andExpect(jsonPath("$.items[1].id").value(comments.get(1).getId()))
+                .andExpect(jsonPath("$.prevCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("댓글 작성/삭제 시 글의 댓글 수가 함께 바뀐다")
+    void t8() throws Exception {
+        int postId = 1;
+
+        Member actor = memberService.findByUsername("user1").get();
+        int commentsCount = postService.findById(postId).get().getCommentsCount();
+
+        PostComment postComment = postService.writeComment(actor, postService.findById(postId).get(), "댓글");
+        postService.flush();
+        em.clear(); // 영속성 컨텍스트가 아닌 DB 값 확인
+
+        assertThat(postService.findById(postId).get().getCommentsCount()).isEqualTo(commentsCount + 1);
+
+        postService.deleteComment(postService.findCommentById(postId, postComment.getId()).get());
+        postService.flush();
+        em.clear();
+
+        assertThat(postService.findById(postId).get().getCommentsCount()).isEqualTo(commentsCount);
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(commentsCount));
+    }
+
+    @Test
+    @DisplayName("댓글 이관, 잘못된 줄은 건너뛰고 글의 댓글 수에 반영")
+    void t9() throws Exception {
+        int postId = 1;
+        int commentsCount = postService.findById(postId).get().getCommentsCount();
+
+        Member actor = memberService.findByUsername("admin").get();
+        Member author = memberService.findByUsername("user1").get();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/postCommentImports/legacy-1")
+                                .header("Authorization", "Bearer " + actor.getApiKey())
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content("""
+                                        {"postId": %1$d, "authorId": %2$d, "content": "이관 댓글 1"}
+                                        {"postId": %1$d, "authorId": %2$d, "content": "이관 댓글 2"}
+                                        {"postId": %1$d, "authorId": 999999, "content": "없는 작성자"}
+                                        {"postId": 999999, "authorId": %2$d, "content": "없는 글"}
+                                        깨진 줄
+                                        """.formatted(postId, author.getId()))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostCommentImportController.class))
+                .andExpect(handler().methodName("importComments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"))
+                .andExpect(jsonPath("$.data.lastLine").value(5))
+                .andExpect(jsonPath("$.data.importedCount").value(2))
+                .andExpect(jsonPath("$.data.failedCount").value(3));
+
+        assertThat(postService.findById(postId).get().getCommentsCount()).isEqualTo(commentsCount + 2);
+    }
+
+    @Test
+    @DisplayName("댓글 이관, 관리자가 아니면 403")
+    void t10() throws Exception {
+        Member actor = memberService.findByUsername("user1").get();
+
+        mvc
+                .perform(
+                        post("/api/v1/postCommentImports/legacy-1")
+                                .header("Authorization", "Bearer " + actor.getApiKey())
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content("")
+                )
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.resultCode").value("403-1"));
+    }
+
+    @Test
+    @DisplayName("댓글 작성, 같은 회원이 너무 많이 요청하면 429")
+    void t11() throws Exception {
+        int postId = 1;
+        // 다른 테스트와 버킷을 공유하지 않도록 새 회원으로 요청
+        String apiKey = memberService.join("rateLimitT11", "1234", "레이트리밋").getApiKey();
+
+        int lastStatus = 0;
+
+        // 버킷이 빌 때까지 요청, 본문이 잘못된 요청이라 DB 에는 쓰지 않는다.
+        for (int i = 0; i < 100 && lastStatus != 429; i++) {
+            lastStatus = mvc
+                    .perform(
+                            post("/api/v1/posts/%d/comments".formatted(postId))
+                                    .header("Authorization", "Bearer " + apiKey)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                                "content": ""
+                                            }
+                                            """)
+                    )
+                    .andReturn()
+                    .getResponse()
+                    .getStatus();
+        }
+
+        assertThat(lastStatus).isEqualTo(429);
+
+        mvc
+                .perform(
+                        post("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("Authorization", "Bearer " + apiKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "내용"
+                                        }
+                                        """)
+                )
+                .andDo(print())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.resultCode").value("429-1"))
+                .andExpect(jsonPath("$.msg").value("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @Test
+    @DisplayName("댓글 스트림, 구독 후 변경된 댓글만 이벤트로 받는다")
+    void t12() throws Exception {
+        int postId = 1;
+        int subscribersCount = postCommentStream.subscribersCount(postId);
+
+        MvcResult mvcResult = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments/stream".formatted(postId))
+                )
+                .andExpect(handler().handlerType(ApiV1PostCommentController.class))
+                .andExpect(handler().methodName("stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(postCommentStream.subscribersCount(postId)).isEqualTo(subscribersCount + 1);
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 커밋 후 리스너를 직접 호출
+        PostComment postComment = postService.findCommentById(postId, 1).get();
+        postCommentStream.handle(new PostCommentChangedEvent(PostCommentChangedEvent.Type.MODIFY, postComment));
+
+        // 전송은 구독자 스레드가 하므로 잠시 기다린다.
+        for (int i = 0; i < 100 && !mvcResult.getResponse().getContentAsString().contains("event:modify"); i++) {
+            Thread.sleep(10);
+        }
+
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains("event:modify")
+                .contains("\"id\":%d".formatted(postComment.getId()));
+    }
+
+    @Test
+    @DisplayName("댓글 다건조회, ETag 가 같으면 304 이고 댓글이 추가되면 다시 200")
+    void t13() throws Exception {
+        int postId = 1;
+
+        String etag = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("If-None-Match", etag)
+                )
+                .andExpect(status().isNotModified());
+
+        Member author = memberService.findByUsername("user1").get();
+        postService.writeComment(author, postService.findById(postId).get(), "새 댓글");
+        postService.flush();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("If-None-Match", etag)
+                )
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("댓글 수정, If-Match 의 버전이 현재 버전과 다르면 412")
+    void t14() throws Exception {
+        int postId = 1;
+        int id = 1;
+
+        PostComment postComment = postService.findCommentById(postId, id).get();
+        String actorApiKey = postComment.getAuthor().getApiKey();
+
+        String etag = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments/%d".formatted(postId, id))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", Matchers.startsWith("\"%d-".formatted(postComment.getVersion()))))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // 조회한 뒤 다른 곳에서 먼저 수정
+        postService.modifyComment(postComment, "내용 other");
+        postService.flush();
+
+        mvc
+                .perform(
+                        put("/api/v1/posts/%d/comments/%d".formatted(postId, id))
+                                .header("Authorization", "Bearer " + actorApiKey)
+                                .header("If-Match", etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "내용 new"
+                                        }
+                                        """)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("modify"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.resultCode").value("412-1"))
+                .andExpect(jsonPath("$.msg").value("댓글이 다른 곳에서 수정되었습니다. 다시 조회한 뒤 수정해주세요."));
+
+        String newEtag = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments/%d".formatted(postId, id))
+                )
+                .andExpect(jsonPath("$.content").value("내용 other"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        put("/api/v1/posts/%d/comments/%d".formatted(postId, id))
+                                .header("Authorization", "Bearer " + actorApiKey)
+                                .header("If-Match", newEtag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "내용 new"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"));
+    }
+
+    @Test
+    @DisplayName("댓글 작성, 없는 API 키로 계속 요청하면 IP 별로 429, 회원의 버킷에는 영향이 없다")
+    void t15() throws Exception {
+        int postId = 1;
+        String remoteAddr = "10.0.0.15"; // 다른 테스트와 IP 버킷을 공유하지 않도록 별도 IP
+
+        Member actor = memberService.findByUsername("user1").get();
+        memberService.findActorByApiKey(actor.getApiKey()); // 인증 캐시에 올려 둔다.
+
+        int lastStatus = 0;
+        int unauthorizedCount = 0;
+
+        // 매번 다른 키로 요청, 버킷이 빌 때까지는 회원 조회까지 가서 401
+        // 요청하는 동안 충전되는 토큰이 있으므로 capacity 의 두 배까지 시도
+        for (int i = 0; i < unknownKeyRateLimitCapacity * 2 && lastStatus != 429; i++) {
+            lastStatus = mvc
+                    .perform(
+                            post("/api/v1/posts/%d/comments".formatted(postId))
+                                    .with(request -> {
+                                        request.setRemoteAddr(remoteAddr);
+                                        return request;
+                                    })
+                                    .header("Authorization", "Bearer " + UUID.randomUUID())
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                                "content": "내용"
+                                            }
+                                            """)
+                    )
+                    .andReturn()
+                    .getResponse()
+                    .getStatus();
+
+            if (lastStatus == 401) unauthorizedCount++;
+        }
+
+        assertThat(lastStatus).isEqualTo(429);
+        assertThat(unauthorizedCount).isGreaterThanOrEqualTo(unknownKeyRateLimitCapacity);
+
+        // 같은 IP 라도 캐시에 있는 회원은 회원 버킷으로 처리
+        mvc
+                .perform(
+                        post("/api/v1/posts/%d/comments".formatted(postId))
+                                .with(request -> {
+                                    request.setRemoteAddr(remoteAddr);
+                                    return request;
+                                })
+                                .header("Authorization", "Bearer " + actor.getApiKey())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "내용"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.resultCode").value("201-1"));
+    }
+
+    @Test
+    @DisplayName("댓글 작성, 댓글 수를 고친 글만 2차 캐시에서 지우고 다른 글은 남긴다")
+    void t16() throws Exception {
+        int postId = 1;
+        int otherPostId = 2;
+
+        Member actor = memberService.findByUsername("user1").get();
+
+        // 두 글을 DB 에서 읽어 2차 캐시에 올린다.
+        em.clear();
+        int commentsCount = postService.findById(postId).get().getCommentsCount();
+        postService.findById(otherPostId).get();
+        assertThat(emf.getCache().contains(Post.class, postId)).isTrue();
+        assertThat(emf.getCache().contains(Post.class, otherPostId)).isTrue();
+
+        mvc
+                .perform(
+                        post("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("Authorization", "Bearer " + actor.getApiKey())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "내용"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isCreated());
+
+        assertThat(emf.getCache().contains(Post.class, postId)).isFalse();
+        assertThat(emf.getCache().contains(Post.class, otherPostId)).isTrue();
+
+        // 영속성 컨텍스트가 아닌 DB 값 확인
+        postService.flush();
+        em.clear();
+        assertThat(postService.findById(postId).get().getCommentsCount()).isEqualTo(commentsCount + 1);
+    }
+
+    @Test
+    @DisplayName("댓글 스트림, 큐가 가득 찰 때까지 따라오지 못하는 구독자는 연결을 끊는다")
+    void t17() {
+        int postId = 1;
+        int queueSize = 2;
+
+        // 전송 스레드가 큐를 비우지 않는 구독자 (네트워크가 막힌 클라이언트)
+        PostCommentStream stream = new PostCommentStream(objectMapper, 60_000, queueSize, runnable -> new Thread(() -> {
+        }));
+        stream.subscribe(postId);
+        assertThat(stream.subscribersCount(postId)).isEqualTo(1);
+
+        PostComment postComment = postService.findCommentById(postId, 1).get();
+
+        for (int i = 0; i < queueSize; i++) {
+            stream.handle(new PostCommentChangedEvent(PostCommentChangedEvent.Type.MODIFY, postComment));
+        }
+
+        assertThat(stream.subscribersCount(postId)).isEqualTo(1);
+
+        // 큐가 가득 찬 뒤의 이벤트에서 연결을 끊는다.
+        stream.handle(new PostCommentChangedEvent(PostCommentChangedEvent.Type.MODIFY, postComment));
+
+        assertThat(stream.subscribersCount(postId)).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 스트림, 삭제된 댓글은 id 만 담은 delete 이벤트로 받는다")
+    void t18() throws Exception {
+        int postId = 1;
+
+        MvcResult mvcResult = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments/stream".formatted(postId))
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 커밋 후 리스너를 직접 호출
+        PostComment postComment = postService.findCommentById(postId, 1).get();
+        postCommentStream.handle(new PostCommentChangedEvent(PostCommentChangedEvent.Type.DELETE, postComment));
+
+        // 전송은 구독자 스레드가 하므로 잠시 기다린다.
+        for (int i = 0; i < 100 && !mvcResult.getResponse().getContentAsString().contains("event:delete"); i++) {
+            Thread.sleep(10);
+        }
+
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains("event:delete")
+                .contains("id:%d".formatted(postComment.getId()))
+                .contains("\"id\":%d".formatted(postComment.getId()))
+                .contains("\"postComment\":null");
+    }
+
+    @Test
+    @DisplayName("댓글 스트림, 느린 구독자를 끊으면 막혀 있던 전송 스레드도 깨워서 끝낸다")
+    void t19() throws Exception {
+        int postId = 1;
+        int queueSize = 2;
+        CountDownLatch senderInterrupted = new CountDownLatch(1);
+
+        // emitter.send 에서 막힌 전송 스레드 (큐를 비우지 않고 인터럽트될 때까지 기다림)
+        PostCommentStream stream = new PostCommentStream(objectMapper, 60_000, queueSize, runnable -> Thread.ofVirtual().unstarted(() -> {
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                senderInterrupted.countDown();
+            }
+        }));
+        stream.subscribe(postId);
+
+        PostComment postComment = postService.findCommentById(postId, 1).get();
+
+        for (int i = 0; i <= queueSize; i++) {
+            stream.handle(new PostCommentChangedEvent(PostCommentChangedEvent.Type.MODIFY, postComment));
+        }
+
+        assertThat(stream.subscribersCount(postId)).isZero();
+        assertThat(senderInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
 }
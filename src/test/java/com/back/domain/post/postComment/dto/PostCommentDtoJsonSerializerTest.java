@@ -0,0 +1,47 @@
+package com.back.domain.post.postComment.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@JsonTest
+public class PostCommentDtoJsonSerializerTest {
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("직접 작성한 댓글 직렬화기는 리플렉션 기반 직렬화와 같은 JSON 을 만든다")
+    void t1() throws Exception {
+        // 스프링 부트 기본 ObjectMapper 에서 @JsonComponent 직렬화기만 뺀 것
+        ObjectMapper reflectiveObjectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        // 나노초가 있는 시각, null, 이스케이프가 필요한 문자, 한글
+        LocalDateTime createDate = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123_456_789);
+        LocalDateTime modifyDate = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        String content = "따옴표 \" 역슬래시 \\ 줄바꿈 \n 탭 \t 태그 <script> 이모지 😀";
+
+        List<PostCommentDto> postCommentDtos = List.of(
+                new PostCommentDto(1, createDate, modifyDate, 2, "유저1", 3, content, 4),
+                new PostCommentDto(Integer.MAX_VALUE, null, null, 0, null, 0, null, 0)
+        );
+
+        for (PostCommentDto postCommentDto : postCommentDtos) {
+            assertThat(objectMapper.writeValueAsString(postCommentDto))
+                    .isEqualTo(reflectiveObjectMapper.writeValueAsString(postCommentDto));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.back.global.rateLimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 클라이언트 주소는 Tomcat(RemoteIpValve)이 X-Forwarded-For 로 바꾸므로 MockMvc 로는 확인할 수 없어서 실제 포트로 요청한다.
+// 테스트는 127.0.0.1(신뢰하는 프록시 대역)에서 보내므로 프록시를 거친 요청과 같다.
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class RateLimitInterceptorTest {
+    @LocalServerPort
+    private int port;
+    @Value("${custom.rateLimit.unknownKey.capacity}")
+    private int unknownKeyRateLimitCapacity;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("없는 API 키 요청 제한은 프록시 주소가 아니라 X-Forwarded-For 의 클라이언트 주소별로 한다")
+    void t1() throws Exception {
+        int lastStatus = 0;
+
+        // 요청하는 동안 충전되는 토큰이 있으므로 capacity 의 두 배까지 시도
+        for (int i = 0; i < unknownKeyRateLimitCapacity * 2 && lastStatus != 429; i++) {
+            lastStatus = writeComment("203.0.113.1").statusCode();
+        }
+
+        assertThat(lastStatus).isEqualTo(429);
+
+        // 같은 프록시를 거친 다른 클라이언트는 자기 버킷을 쓰므로 회원 조회까지 가서 401
+        assertThat(writeComment("203.0.113.2").statusCode()).isEqualTo(401);
+    }
+
+    private HttpResponse<String> writeComment(String clientAddr) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest
+                .newBuilder(URI.create("http://localhost:%d/api/v1/posts/1/comments".formatted(port)))
+                .header("X-Forwarded-For", clientAddr)
+                .header("Authorization", "Bearer " + UUID.randomUUID())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {
+                            "content": "내용"
+                        }
+                        """))
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,34 @@
+package com.back.global.startupCheck;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 에서 DDL 은 트랜잭션을 커밋하므로 테스트 트랜잭션을 걸지 않는다.
+@ActiveProfiles("test")
+@SpringBootTest
+public class SequenceStartupCheckTest {
+    @Autowired
+    private SequenceStartupCheck sequenceStartupCheck;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("시퀀스가 기존 행의 max(id) 보다 앞에 있으면 기동 시 뒤로 옮긴다")
+    void t1() throws Exception {
+        long maxId = jdbcTemplate.queryForObject("select max(id) from post", Long.class);
+
+        // IDENTITY 로 만든 DB 에 시퀀스가 새로 생긴 상황
+        jdbcTemplate.execute("alter sequence post_seq restart with 1");
+
+        sequenceStartupCheck.afterSingletonsInstantiated();
+
+        long nextValue = jdbcTemplate.queryForObject("select next value for post_seq", Long.class);
+        assertThat(nextValue).isGreaterThan(maxId);
+    }
+}
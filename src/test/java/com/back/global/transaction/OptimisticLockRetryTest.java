@@ -0,0 +1,144 @@
+package com.back.global.transaction;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberService;
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 스레드마다 실제로 커밋해야 충돌이 나므로 테스트 트랜잭션을 걸지 않는다. 만든 글은 테스트가 지운다.
+@ActiveProfiles("test")
+@SpringBootTest
+public class OptimisticLockRetryTest {
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+
+    @Value("${custom.optimisticLockRetry.maxAttempts}")
+    private int maxAttempts;
+
+    @Test
+    @DisplayName("같은 글을 동시에 수정해도 OptimisticLockRetry 로 다시 시도하면 수정이 사라지지 않는다")
+    void t1() throws Exception {
+        Member author = memberService.findByUsername("user1").get();
+        int postId = optimisticLockRetry.execute(() -> postService.write(author, "동시 수정", "0").getId());
+
+        // 충돌은 다른 스레드가 먼저 커밋했을 때만 나므로, 스레드 수가 maxAttempts 이하면 모두 성공해야 한다.
+        int threadsCount = maxAttempts;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threadsCount)) {
+            for (int i = 0; i < threadsCount; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    optimisticLockRetry.executeWithoutResult(() -> {
+                        Post post = postService.findById(postId).get();
+                        postService.modify(post, post.getTitle(), post.getContent() + "+");
+                    });
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(30, SECONDS);
+            }
+
+            Post post = optimisticLockRetry.execute(() -> postService.findById(postId).get());
+
+            assertThat(post.getContent()).isEqualTo("0" + "+".repeat(threadsCount));
+            assertThat(post.getVersion()).isEqualTo(threadsCount);
+        } finally {
+            optimisticLockRetry.executeWithoutResult(() -> postService.delete(postService.findById(postId).get()));
+        }
+    }
+
+    @Test
+    @DisplayName("내부 작업 재시도, 스레드가 maxAttempts 보다 많으면 재시도를 다 쓴 작업은 예외로 알리고 성공한 수정은 모두 남는다")
+    void t2() throws Exception {
+        // 계속 충돌하면 maxAttempts 번까지만 실행하고 예외를 그대로 던진다.
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> optimisticLockRetry.executeWithoutResult(() -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("충돌");
+        }))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(attempts.get()).isEqualTo(maxAttempts);
+
+        Member author = memberService.findByUsername("user1").get();
+        int postId = optimisticLockRetry.execute(() -> postService.write(author, "동시 수정", "0").getId());
+
+        int threadsCount = maxAttempts * 4;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threadsCount)) {
+            for (int i = 0; i < threadsCount; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    optimisticLockRetry.executeWithoutResult(() -> {
+                        Post post = postService.findById(postId).get();
+                        postService.modify(post, post.getTitle(), post.getContent() + "+");
+                    });
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            int succeededCount = 0;
+            int exhaustedCount = 0;
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get(60, SECONDS);
+                    succeededCount++;
+                } catch (ExecutionException e) {
+                    // 재시도를 다 쓴 작업은 충돌 예외로만 실패해야 한다. (다른 예외로 바뀌거나 삼켜지지 않음)
+                    assertThat(e.getCause()).isInstanceOf(OptimisticLockingFailureException.class);
+                    exhaustedCount++;
+                }
+            }
+
+            assertThat(succeededCount + exhaustedCount).isEqualTo(threadsCount);
+
+            // 성공한 작업의 수정은 하나도 빠지지 않았고, 실패한 작업의 수정은 반영되지 않았다.
+            Post post = optimisticLockRetry.execute(() -> postService.findById(postId).get());
+
+            assertThat(post.getContent()).isEqualTo("0" + "+".repeat(succeededCount));
+            assertThat(post.getVersion()).isEqualTo(succeededCount);
+        } finally {
+            optimisticLockRetry.executeWithoutResult(() -> postService.delete(postService.findById(postId).get()));
+        }
+    }
+}